@@ -0,0 +1,38 @@
+package quadratix;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Evaluation of a block of moves at once. The fitness values of the neighbors are written in a primitive array, so a
+ * search engine can score a whole neighborhood with one call, and the implementation is free to split the block, for
+ * instance between the cores with {@link ParallelBatchEvaluator}.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see SequentialBatchEvaluator
+ * @see ParallelBatchEvaluator
+ */
+public interface BatchEvaluator<P> {
+	
+	/**
+	 * Compute the fitness of the neighbors {@code m(x)} for the moves `m` in {@code moves[from]} to
+	 * {@code moves[to - 1]}.
+	 * @param x The current point. It is not modified.
+	 * @param fx The fitness of `x`.
+	 * @param moves The moves from `x`.
+	 * @param from The index of the first move to evaluate.
+	 * @param to The index after the last move to evaluate.
+	 * @param fitness The array where {@code fitness[k]} is set to {@code f(moves[k](x))}, for all `k` in
+	 *                [from ; to).
+	 */
+	void evaluate(final P x, final long fx, @NotNull final List<? extends ElementaryFunction<P>> moves, final int from, final int to, @NotNull final long[] fitness);
+	
+	/**
+	 * Compute the fitness of the neighbors {@code m(x)} for all the moves `m`.
+	 * @see #evaluate(Object, long, List, int, int, long[])
+	 */
+	default void evaluate(final P x, final long fx, @NotNull final List<? extends ElementaryFunction<P>> moves, @NotNull final long[] fitness) {
+		evaluate(x, fx, moves, 0, moves.size(), fitness);
+	}
+}
@@ -0,0 +1,26 @@
+package quadratix;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface that computes the variation of a fitness function `f` when an elementary function `m` is applied on a
+ * point `x`, that is to say {@code f(m(x)) - f(x)}, without evaluating the neighbor `m(x)` from scratch.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
+ * @see ISearch
+ */
+@FunctionalInterface
+public interface DeltaFunction<P, R> {
+	
+	/**
+	 * Compute the fitness variation {@code f(m(x)) - f(x)}.
+	 * @param x The current point.
+	 * @param m The elementary function that maps `x` to its neighbor.
+	 * @return Return the fitness variation, or {@code null} if `m` is not supported. In that case, the search engine
+	 * must evaluate the neighbor with the fitness function.
+	 */
+	@Nullable
+	R delta(final P x, @NotNull final ElementaryFunction<P> m);
+}
@@ -0,0 +1,279 @@
+package quadratix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded memoization of a fitness function. The points are looked up by {@link Object#hashCode()} and
+ * {@link Object#equals(Object)}, which cost O(1) for a {@link quadratix.combination.Permutation} thanks to its Zobrist
+ * hash.
+ * <p>
+ * When the cache is full, an entry is evicted with the CLOCK policy: the entries are on a ring with a "referenced"
+ * bit, set by each hit. The hand of the clock clears the bits it passes, and evicts the first entry whose bit is
+ * already clear, so an entry that has been hit since the last turn gets a second chance.
+ * <p>
+ * The cache is split into stripes, each with its own lock and its own clock, so concurrent searches can share it. The
+ * fitness function is called outside the locks: two threads that miss the same point at the same time may both
+ * evaluate it. The {@code null} values are not cached.
+ * <p>
+ * The points must not be modified once they have been evaluated, otherwise their entries cannot be found anymore.
+ * Example:
+ * <pre>
+ * {@code
+ * FitnessCache<Permutation, Long> cache = new FitnessCache<>(evaluator::cost, 100_000);
+ * tabu.search(cache, x0, V, NumberOperations.getLongOperations());
+ * System.out.println(cache);
+ * }
+ * </pre>
+ * @param <P> Denotes the parameter type of the fitness function.
+ * @param <R> represents the return type of the fitness function.
+ */
+public class FitnessCache<P, R> implements Function<P, R> {
+	
+	/**
+	 * The default number of stripes. It is a power of 2.
+	 */
+	public static final int DEFAULT_STRIPES = Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1) << 1;
+	
+	@NotNull
+	private final Function<P, R> f;
+	@NotNull
+	private final Segment<P, R>[] segments;
+	/**
+	 * The shift that keeps the bits of a hash code that select its stripe: {@code 32 - log2(stripes)}.
+	 */
+	private final int shift;
+	private final int capacity;
+	
+	@NotNull
+	private final LongAdder hits = new LongAdder();
+	@NotNull
+	private final LongAdder misses = new LongAdder();
+	@NotNull
+	private final LongAdder evictions = new LongAdder();
+	
+	/**
+	 * Constructor.
+	 * @param f The fitness function to memoize.
+	 * @param capacity The maximum number of entries.
+	 * @param stripes The number of stripes. It is rounded up to a power of 2, and lowered so that each stripe can hold
+	 *                at least one entry.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public FitnessCache(@NotNull Function<P, R> f, int capacity, int stripes) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("The capacity must be positive.");
+		if (stripes <= 0)
+			throw new IllegalArgumentException("The number of stripes must be positive.");
+		
+		this.f = f;
+		this.capacity = capacity;
+		stripes = Math.min(stripes > 1 ? Integer.highestOneBit(stripes - 1) << 1 : 1, Integer.highestOneBit(capacity));
+		segments = new Segment[stripes];
+		shift = 32 - Integer.numberOfTrailingZeros(stripes);
+		for (int k = 0; k < stripes; k++)
+			segments[k] = new Segment<>(capacity / stripes + (k < capacity % stripes ? 1 : 0));
+	}
+	/**
+	 * Constructor, with {@link #DEFAULT_STRIPES} stripes.
+	 * @param f The fitness function to memoize.
+	 * @param capacity The maximum number of entries.
+	 */
+	public FitnessCache(@NotNull Function<P, R> f, int capacity) {
+		this(f, capacity, DEFAULT_STRIPES);
+	}
+	
+	/**
+	 * Compute the fitness of `x`, or return it from the cache if it has already been computed.
+	 * @param x The point.
+	 * @return Return {@code f(x)}.
+	 */
+	@Override
+	public R apply(P x) {
+		Segment<P, R> segment = segmentFor(x);
+		R fx = segment.get(x);
+		if (fx != null) {
+			hits.increment();
+			return fx;
+		}
+		
+		misses.increment();
+		fx = f.apply(x);
+		if (fx != null && segment.put(x, fx))
+			evictions.increment();
+		return fx;
+	}
+	
+	/**
+	 * Remove all the entries. The statistics are kept.
+	 * @see #resetStatistics()
+	 */
+	public void clear() {
+		for (Segment<P, R> segment : segments)
+			segment.clear();
+	}
+	
+	/**
+	 * Reset the numbers of hits, misses and evictions.
+	 */
+	public void resetStatistics() {
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+	
+	@NotNull
+	private Segment<P, R> segmentFor(P x) {
+		return segments[stripeOf(x)];
+	}
+	
+	/**
+	 * Select the stripe of a point from the high bits of its hash code, multiplied by the golden ratio. The
+	 * {@link HashMap} of the stripe uses the low bits to select its buckets: if they also selected the stripe, all the
+	 * points of a stripe would share them, and would be clustered in a fraction of the buckets.
+	 * @param x The point.
+	 * @return Return the index of the stripe of `x`.
+	 */
+	int stripeOf(P x) {
+		if (segments.length == 1)
+			return 0;
+		
+		int h = x == null ? 0 : x.hashCode();
+		return (h * 0x9E3779B9) >>> shift;
+	}
+	
+	/**
+	 * A stripe of the cache: a ring of entries scanned by the hand of the clock, and an index from the points to
+	 * their entries. All its methods are synchronized.
+	 */
+	private static class Segment<P, R> {
+		
+		@NotNull
+		private final HashMap<P, Entry<P, R>> index;
+		@NotNull
+		private final Entry<P, R>[] ring;
+		private int size;
+		private int hand;
+		
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Segment(int capacity) {
+			index = new HashMap<>(2 * capacity);
+			ring = new Entry[capacity];
+		}
+		
+		@Nullable
+		synchronized R get(P x) {
+			Entry<P, R> entry = index.get(x);
+			if (entry == null)
+				return null;
+			
+			entry.referenced = true;
+			return entry.value;
+		}
+		
+		/**
+		 * Insert an entry, unless the point is already cached.
+		 * @return Return {@code true} if an entry has been evicted.
+		 */
+		synchronized boolean put(P x, R fx) {
+			if (index.containsKey(x))
+				return false;
+			
+			Entry<P, R> entry = new Entry<>(x, fx);
+			index.put(x, entry);
+			if (size < ring.length) {
+				ring[size++] = entry;
+				return false;
+			}
+			
+			while (ring[hand].referenced) {
+				ring[hand].referenced = false;
+				hand = (hand + 1) % ring.length;
+			}
+			index.remove(ring[hand].key);
+			ring[hand] = entry;
+			hand = (hand + 1) % ring.length;
+			return true;
+		}
+		
+		synchronized int size() {
+			return size;
+		}
+		
+		synchronized void clear() {
+			index.clear();
+			for (int k = 0; k < size; k++)
+				ring[k] = null;
+			size = 0;
+			hand = 0;
+		}
+	}
+	
+	private static class Entry<P, R> {
+		
+		private final P key;
+		private final R value;
+		private boolean referenced;
+		
+		Entry(P key, R value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+	
+	//region GETTERS
+	
+	@Contract(pure = true)
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * @return Return the number of entries.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<P, R> segment : segments)
+			size += segment.size();
+		return size;
+	}
+	
+	public long getHits() {
+		return hits.sum();
+	}
+	
+	public long getMisses() {
+		return misses.sum();
+	}
+	
+	public long getEvictions() {
+		return evictions.sum();
+	}
+	
+	/**
+	 * @return Return the ratio of the calls answered from the cache, or 0 if the cache has not been called.
+	 */
+	public double getHitRate() {
+		long hits = getHits();
+		long calls = hits + getMisses();
+		return calls == 0 ? 0 : (double) hits / calls;
+	}
+	
+	//endregion
+	
+	@Override
+	public String toString() {
+		return "FitnessCache{" +
+				"size=" + size() +
+				", capacity=" + capacity +
+				", hits=" + getHits() +
+				", misses=" + getMisses() +
+				", evictions=" + getEvictions() +
+				'}';
+	}
+}
@@ -0,0 +1,57 @@
+package quadratix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.neighborhood.MoveNeighborhood;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Primitive specialization of {@link ISearch} for the fitness functions that return a {@code long}. The fitness values
+ * are compared and added as primitives, so the hot loops of the searches neither box them nor call
+ * {@link NumberOperations}.
+ * <p>
+ * A generic fitness function can be adapted with {@link #fitness(Function)}, and a generic delta function with
+ * {@link LongDeltaFunction#of(DeltaFunction)}.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see ISearch
+ */
+public interface ILongSearch<P> {
+	
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param f The fitness function.
+	 * @param x0 The starting point.
+	 * @param N The neighborhood, that gives the moves from a point.
+	 * @return Return the optimal point if found.
+	 */
+	@Nullable
+	P search(@NotNull final ToLongFunction<P> f, final P x0, @NotNull final MoveNeighborhood<P> N);
+	
+	/**
+	 * Set the termination policy of the searches, in addition to their own stopping criteria.
+	 * @param termination The termination policy. If {@code null}, only the own criteria of the search are used.
+	 */
+	void setTermination(@Nullable final Termination<Long> termination);
+	
+	/**
+	 * @return Return the termination policy of the searches, or {@code null} if there is none.
+	 */
+	@Nullable
+	Termination<Long> getTermination();
+	
+	/**
+	 * Adapt a generic fitness function.
+	 * @param f The fitness function.
+	 * @param <P> Denotes the parameter type of the fitness function.
+	 * @return Return a fitness function that unboxes the values of `f`.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	static <P> ToLongFunction<P> fitness(@NotNull final Function<P, ? extends Number> f) {
+		return x -> f.apply(x).longValue();
+	}
+}
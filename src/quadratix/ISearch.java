@@ -25,4 +25,16 @@ public interface ISearch<P, R> {
 	 */
 	@Nullable
 	P search(@NotNull final Function<P, R> f, final P x0, @NotNull final Function<P, HashMap<P, ElementaryFunction<P>>> V, @NotNull final NumberOperations<R> rOperation);
+	
+	/**
+	 * Set the termination policy of the searches, in addition to their own stopping criteria.
+	 * @param termination The termination policy. If {@code null}, only the own criteria of the search are used.
+	 */
+	void setTermination(@Nullable final Termination<R> termination);
+	
+	/**
+	 * @return Return the termination policy of the searches, or {@code null} if there is none.
+	 */
+	@Nullable
+	Termination<R> getTermination();
 }
@@ -3,9 +3,16 @@ package quadratix;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import quadratix.stats.RandomProvider;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
+import java.util.RandomAccess;
+import java.util.Set;
 
 public class ListUtil {
 	
@@ -14,12 +21,30 @@ public class ListUtil {
 	 * @param collection The collection.
 	 * @param <T> The generic type of the collection.
 	 * @return Return the randomly picked up element from `collection`.
+	 * @see #pickRandomly(Collection, Random)
 	 */
 	@Nullable
 	@Contract("null -> fail")
 	public static <T> T pickRandomly(@NotNull Collection<T> collection) {
+		return pickRandomly(collection, RandomProvider.current());
+	}
+	
+	/**
+	 * Pick randomly an item in the given collection. It costs O(1) if the collection is a {@link RandomAccess} list,
+	 * otherwise the collection is iterated up to the item.
+	 * @param collection The collection. It must not be empty.
+	 * @param random The random number generator.
+	 * @param <T> The generic type of the collection.
+	 * @return Return the randomly picked up element from `collection`.
+	 */
+	@Nullable
+	@Contract("null, _ -> fail")
+	public static <T> T pickRandomly(@NotNull Collection<T> collection, @NotNull Random random) {
+		int index = random.nextInt(collection.size());
+		if (collection instanceof List && collection instanceof RandomAccess)
+			return ((List<T>) collection).get(index);
+		
 		// Code Inspired from https://stackoverflow.com/a/124693
-		int index = new Random().nextInt(collection.size());
 		int i = 0;
 		
 		for (T t : collection) {
@@ -31,4 +56,73 @@ public class ListUtil {
 		
 		return null;
 	}
+	
+	/**
+	 * Pick randomly `k` distinct indexes in [0 ; n), with Floyd's algorithm. It costs O(k), whatever `n`.
+	 * @param n The number of indexes to choose from.
+	 * @param k The number of indexes to pick. If it is greater than `n`, all the indexes are picked.
+	 * @param random The random number generator.
+	 * @return Return the picked indexes, in no particular order.
+	 */
+	@NotNull
+	public static int[] sampleIndexes(int n, int k, @NotNull Random random) {
+		if (k < 0)
+			throw new IllegalArgumentException("The number of items cannot be negative.");
+		
+		k = Math.min(k, n);
+		Set<Integer> picked = new HashSet<>(2 * k);
+		int[] indexes = new int[k];
+		int c = 0;
+		for (int j = n - k; j < n; j++) {
+			int t = random.nextInt(j + 1);
+			int index = picked.add(t) ? t : j;
+			if (index == j)
+				picked.add(j);
+			indexes[c++] = index;
+		}
+		return indexes;
+	}
+	
+	/**
+	 * Pick randomly `k` items in a stream of unknown length, with reservoir sampling (Li's "algorithm L"): each item has
+	 * the same probability to be picked, and the number of random draws is O(k log(n/k)) instead of O(n).
+	 * @param iterator The stream of items.
+	 * @param k The number of items to pick. If the stream has less items, all of them are picked.
+	 * @param random The random number generator.
+	 * @param <T> The generic type of the items.
+	 * @return Return the picked items, in no particular order.
+	 */
+	@NotNull
+	public static <T> List<T> sample(@NotNull Iterator<T> iterator, int k, @NotNull Random random) {
+		if (k < 0)
+			throw new IllegalArgumentException("The number of items cannot be negative.");
+		
+		ArrayList<T> reservoir = new ArrayList<>(k);
+		while (reservoir.size() < k && iterator.hasNext())
+			reservoir.add(iterator.next());
+		if (k == 0 || !iterator.hasNext())
+			return reservoir;
+		
+		// 1 - nextDouble() is in (0 ; 1], so its logarithm is finite
+		double w = Math.exp(Math.log(1 - random.nextDouble()) / k);
+		while (true) {
+			long skip = (long) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - w));
+			for (long s = 0; s < skip && iterator.hasNext(); s++)
+				iterator.next();
+			if (!iterator.hasNext())
+				return reservoir;
+			
+			reservoir.set(random.nextInt(k), iterator.next());
+			w *= Math.exp(Math.log(1 - random.nextDouble()) / k);
+		}
+	}
+	
+	/**
+	 * Pick randomly `k` items in the given iterable.
+	 * @see #sample(Iterator, int, Random)
+	 */
+	@NotNull
+	public static <T> List<T> sample(@NotNull Iterable<T> iterable, int k, @NotNull Random random) {
+		return sample(iterable.iterator(), k, random);
+	}
 }
@@ -0,0 +1,44 @@
+package quadratix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Primitive specialization of {@link DeltaFunction} for the fitness functions that return a {@code long}: the variation
+ * is returned without boxing.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see ILongSearch
+ */
+@FunctionalInterface
+public interface LongDeltaFunction<P> {
+	
+	/**
+	 * Returned by {@link #delta(Object, ElementaryFunction)} when the elementary function is not supported.
+	 */
+	long UNSUPPORTED = Long.MIN_VALUE;
+	
+	/**
+	 * Compute the fitness variation {@code f(m(x)) - f(x)}.
+	 * @param x The current point.
+	 * @param m The elementary function that maps `x` to its neighbor.
+	 * @return Return the fitness variation, or {@link #UNSUPPORTED} if `m` is not supported. In that case, the search
+	 * engine must evaluate the neighbor with the fitness function.
+	 */
+	long delta(final P x, @NotNull final ElementaryFunction<P> m);
+	
+	/**
+	 * Adapt a generic delta function.
+	 * @param delta The delta function.
+	 * @param <P> Denotes the parameter type of the fitness function.
+	 * @return Return a delta function that unboxes the variations of `delta`.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	static <P> LongDeltaFunction<P> of(@NotNull final DeltaFunction<P, ? extends Number> delta) {
+		return (x, m) -> {
+			Number d = delta.delta(x, m);
+			return d != null ? d.longValue() : UNSUPPORTED;
+		};
+	}
+}
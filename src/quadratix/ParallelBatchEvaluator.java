@@ -0,0 +1,130 @@
+package quadratix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Evaluate the moves in parallel, in a {@link ForkJoinPool}. The range of moves is split in halves until the pieces
+ * have at most `chunk` moves, and each piece is evaluated by a {@link SequentialBatchEvaluator}. A block of at most
+ * `chunk` moves, or any block if the pool has a single worker, is evaluated in the calling thread, so the small
+ * neighborhoods do not pay for the pool.
+ * <p>
+ * The fitness and delta functions are called concurrently: they must be thread-safe, and they must not modify `x`.
+ * For instance, {@link quadratix.assignement.AssignmentEvaluator#cost(quadratix.combination.Permutation)} and
+ * {@link quadratix.assignement.AssignmentEvaluator#longDelta} are.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see SequentialBatchEvaluator
+ */
+public class ParallelBatchEvaluator<P> implements BatchEvaluator<P> {
+	
+	/**
+	 * The default maximum number of moves evaluated by a task. For the quadratic assignment problem, the neighborhood
+	 * of the swaps is split from n = 24.
+	 */
+	public static final int DEFAULT_CHUNK = 256;
+	
+	@NotNull
+	private final SequentialBatchEvaluator<P> sequential;
+	@NotNull
+	private final ForkJoinPool pool;
+	private final int chunk;
+	
+	/**
+	 * Constructor.
+	 * @param f The fitness function.
+	 * @param delta The function that computes the fitness variation of a move. If {@code null}, every neighbor is
+	 *              built and evaluated with `f`.
+	 * @param pool The pool that runs the tasks.
+	 * @param chunk The maximum number of moves evaluated by a task.
+	 */
+	public ParallelBatchEvaluator(@NotNull ToLongFunction<P> f, @Nullable LongDeltaFunction<P> delta, @NotNull ForkJoinPool pool, int chunk) {
+		if (chunk <= 0)
+			throw new IllegalArgumentException("The chunk size must be positive.");
+		
+		this.sequential = new SequentialBatchEvaluator<>(f, delta);
+		this.pool = pool;
+		this.chunk = chunk;
+	}
+	/**
+	 * Constructor. The tasks are run in the common pool, with chunks of {@link #DEFAULT_CHUNK} moves.
+	 * @param f The fitness function.
+	 * @param delta The function that computes the fitness variation of a move. Can be {@code null}.
+	 */
+	public ParallelBatchEvaluator(@NotNull ToLongFunction<P> f, @Nullable LongDeltaFunction<P> delta) {
+		this(f, delta, ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evaluate(final P x, final long fx, @NotNull final List<? extends ElementaryFunction<P>> moves, final int from, final int to, @NotNull final long[] fitness) {
+		// With a single worker, the pool would only add the cost of the tasks
+		if (to - from <= chunk || pool.getParallelism() == 1)
+			sequential.evaluate(x, fx, moves, from, to, fitness);
+		else
+			pool.invoke(new Chunk<>(sequential, chunk, x, fx, moves, from, to, fitness));
+	}
+	
+	private static class Chunk<P> extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		@NotNull
+		private final SequentialBatchEvaluator<P> sequential;
+		private final int chunk;
+		private final P x;
+		private final long fx;
+		@NotNull
+		private final List<? extends ElementaryFunction<P>> moves;
+		private final int from;
+		private final int to;
+		@NotNull
+		private final long[] fitness;
+		
+		Chunk(@NotNull SequentialBatchEvaluator<P> sequential, int chunk, P x, long fx, @NotNull List<? extends ElementaryFunction<P>> moves, int from, int to, @NotNull long[] fitness) {
+			this.sequential = sequential;
+			this.chunk = chunk;
+			this.x = x;
+			this.fx = fx;
+			this.moves = moves;
+			this.from = from;
+			this.to = to;
+			this.fitness = fitness;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from <= chunk) {
+				sequential.evaluate(x, fx, moves, from, to, fitness);
+				return;
+			}
+			
+			int middle = (from + to) >>> 1;
+			invokeAll(new Chunk<>(sequential, chunk, x, fx, moves, from, middle, fitness),
+					new Chunk<>(sequential, chunk, x, fx, moves, middle, to, fitness));
+		}
+	}
+	
+	//region GETTERS
+	
+	@NotNull
+	@Contract(pure = true)
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+	
+	@Contract(pure = true)
+	public int getChunk() {
+		return chunk;
+	}
+	
+	//endregion
+}
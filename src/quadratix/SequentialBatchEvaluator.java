@@ -0,0 +1,62 @@
+package quadratix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Evaluate the moves one after the other, in the calling thread. Each neighbor is scored with the delta function if
+ * it supports the move, and with the fitness function otherwise.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see ParallelBatchEvaluator
+ */
+public class SequentialBatchEvaluator<P> implements BatchEvaluator<P> {
+	
+	@NotNull
+	private final ToLongFunction<P> f;
+	@Nullable
+	private final LongDeltaFunction<P> delta;
+	
+	/**
+	 * Constructor.
+	 * @param f The fitness function.
+	 * @param delta The function that computes the fitness variation of a move. If {@code null}, every neighbor is
+	 *              built and evaluated with `f`.
+	 */
+	public SequentialBatchEvaluator(@NotNull ToLongFunction<P> f, @Nullable LongDeltaFunction<P> delta) {
+		this.f = f;
+		this.delta = delta;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evaluate(final P x, final long fx, @NotNull final List<? extends ElementaryFunction<P>> moves, final int from, final int to, @NotNull final long[] fitness) {
+		for (int k = from; k < to; k++) {
+			ElementaryFunction<P> m = moves.get(k);
+			long d = delta != null ? delta.delta(x, m) : LongDeltaFunction.UNSUPPORTED;
+			fitness[k] = d != LongDeltaFunction.UNSUPPORTED ? fx + d : f.applyAsLong(m.apply(x));
+		}
+	}
+	
+	//region GETTERS
+	
+	@NotNull
+	@Contract(pure = true)
+	public ToLongFunction<P> getF() {
+		return f;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	public LongDeltaFunction<P> getDelta() {
+		return delta;
+	}
+	
+	//endregion
+}
@@ -0,0 +1,208 @@
+package quadratix;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Termination policy of a search, in addition to its own stopping criteria (for instance the maximum number of
+ * iterations). The search stops as soon as one of the following criteria is met:
+ * <ul>
+ *     <li>The wall-clock time since the beginning of the search exceeds the timeout.</li>
+ *     <li>The number of fitness evaluations exceeds the budget.</li>
+ *     <li>The best fitness found is less than or equal to the target.</li>
+ *     <li>The best fitness has not improved for `stagnation` iterations.</li>
+ * </ul>
+ * Each criterion is disabled by default. The criteria are checked between two iterations, by a {@link Monitor} created
+ * at the beginning of each search.
+ * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
+ * @see ISearch#setTermination(Termination)
+ */
+public class Termination<R> {
+
+	/**
+	 * Value of a disabled criterion.
+	 */
+	public static final long UNLIMITED = -1;
+
+	private long timeoutMs = UNLIMITED;
+	private long maxEvaluations = UNLIMITED;
+	@Nullable
+	private R target;
+	private long stagnation = UNLIMITED;
+
+	/**
+	 * The reasons why a search can stop.
+	 */
+	public enum Reason {
+		TIMEOUT,
+		EVALUATIONS,
+		TARGET,
+		STAGNATION
+	}
+
+	//region CONSTRUCTORS
+
+	/**
+	 * Constructor.
+	 * @param timeoutMs The maximum wall-clock time of the search, in millisecond, or {@link #UNLIMITED}.
+	 * @param maxEvaluations The maximum number of fitness evaluations, or {@link #UNLIMITED}.
+	 * @param target The fitness to reach, or {@code null}.
+	 * @param stagnation The maximum number of iterations without improvement, or {@link #UNLIMITED}.
+	 */
+	public Termination(long timeoutMs, long maxEvaluations, @Nullable R target, long stagnation) {
+		setTimeoutMs(timeoutMs);
+		setMaxEvaluations(maxEvaluations);
+		setTarget(target);
+		setStagnation(stagnation);
+	}
+
+	/**
+	 * Constructor. All the criteria are disabled.
+	 */
+	public Termination() {
+		this(UNLIMITED, UNLIMITED, null, UNLIMITED);
+	}
+
+	//endregion
+
+	/**
+	 * Start monitoring a search. It must be called at the beginning of the search.
+	 * @param comparator Compare the fitness. The lower, the better.
+	 * @return Return a new monitor.
+	 */
+	@NotNull
+	@Contract("_ -> new")
+	public Monitor start(@NotNull Comparator<? super R> comparator) {
+		return new Monitor(comparator);
+	}
+
+	/**
+	 * Start monitoring a search with an optional termination policy.
+	 * @param termination The termination policy. If {@code null}, all the criteria are disabled.
+	 * @param comparator Compare the fitness. The lower, the better.
+	 * @param <R> represents the return type of the fitness function.
+	 * @return Return a new monitor.
+	 */
+	@NotNull
+	public static <R> Termination<R>.Monitor start(@Nullable Termination<R> termination, @NotNull Comparator<? super R> comparator) {
+		return (termination != null ? termination : new Termination<R>()).start(comparator);
+	}
+
+	/**
+	 * Check the termination criteria during a search.
+	 */
+	public class Monitor {
+
+		@NotNull
+		private final Comparator<? super R> comparator;
+		private final long deadlineNs;
+		@Nullable
+		private R best;
+		private long lastImprovement;
+		@Nullable
+		private Reason reason;
+
+		private Monitor(@NotNull Comparator<? super R> comparator) {
+			this.comparator = comparator;
+			this.deadlineNs = timeoutMs != UNLIMITED ? System.nanoTime() + timeoutMs * 1_000_000L : 0;
+		}
+
+		/**
+		 * Check the criteria. It must be called at each iteration.
+		 * @param iteration The current iteration.
+		 * @param evaluations The number of fitness evaluations since the beginning of the search.
+		 * @param fmin The best fitness found so far.
+		 * @return Return {@code true} if the search must stop.
+		 */
+		public boolean isOver(long iteration, long evaluations, @NotNull R fmin) {
+			if (best == null || comparator.compare(fmin, best) < 0) {
+				best = fmin;
+				lastImprovement = iteration;
+			}
+
+			if (target != null && comparator.compare(fmin, target) <= 0)
+				reason = Reason.TARGET;
+			else if (maxEvaluations != UNLIMITED && evaluations >= maxEvaluations)
+				reason = Reason.EVALUATIONS;
+			else if (stagnation != UNLIMITED && iteration - lastImprovement >= stagnation)
+				reason = Reason.STAGNATION;
+			else if (timeoutMs != UNLIMITED && System.nanoTime() - deadlineNs >= 0)
+				reason = Reason.TIMEOUT;
+
+			return reason != null;
+		}
+
+		/**
+		 * @return Return the reason why the search has stopped, or {@code null} if no criterion has been met.
+		 */
+		@Nullable
+		@Contract(pure = true)
+		public Reason getReason() {
+			return reason;
+		}
+	}
+
+	//region GETTERS & SETTERS
+
+	@Contract(pure = true)
+	public long getTimeoutMs() {
+		return timeoutMs;
+	}
+
+	public void setTimeoutMs(long timeoutMs) {
+		if (timeoutMs < 0 && timeoutMs != UNLIMITED)
+			throw new IllegalArgumentException("The timeout cannot be negative.");
+
+		this.timeoutMs = timeoutMs;
+	}
+
+	@Contract(pure = true)
+	public long getMaxEvaluations() {
+		return maxEvaluations;
+	}
+
+	public void setMaxEvaluations(long maxEvaluations) {
+		if (maxEvaluations < 0 && maxEvaluations != UNLIMITED)
+			throw new IllegalArgumentException("The number of evaluations cannot be negative.");
+
+		this.maxEvaluations = maxEvaluations;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	public R getTarget() {
+		return target;
+	}
+
+	public void setTarget(@Nullable R target) {
+		this.target = target;
+	}
+
+	@Contract(pure = true)
+	public long getStagnation() {
+		return stagnation;
+	}
+
+	public void setStagnation(long stagnation) {
+		if (stagnation < 0 && stagnation != UNLIMITED)
+			throw new IllegalArgumentException("The stagnation cannot be negative.");
+
+		this.stagnation = stagnation;
+	}
+
+	//endregion
+
+	@Override
+	public String toString() {
+		return "Termination{" +
+				"timeoutMs=" + timeoutMs +
+				", maxEvaluations=" + maxEvaluations +
+				", target=" + Objects.toString(target) +
+				", stagnation=" + stagnation +
+				'}';
+	}
+}
@@ -3,18 +3,38 @@ package quadratix.assignement;
 import javafx.util.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import quadratix.DeltaFunction;
 import quadratix.ElementaryFunction;
+import quadratix.FitnessCache;
 import quadratix.NumberOperations;
+import quadratix.ParallelBatchEvaluator;
+import quadratix.Termination;
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
 import quadratix.data.AssignmentData;
 import quadratix.data.TaillardReader;
+import quadratix.neighborhood.MoveNeighborhood;
 import quadratix.neighborhood.Neighborhood;
 import quadratix.neighborhood.NeighborhoodFull;
+import quadratix.simulatedannealing.DeltaSimulatedAnnealing;
+import quadratix.simulatedannealing.ParallelTempering;
 import quadratix.simulatedannealing.SimulatedAnnealing;
+import quadratix.stats.RandomProvider;
+import quadratix.tabu.AttributeTabu;
+import quadratix.tabu.CooperativeTabu;
+import quadratix.tabu.DeltaMatrixTabu;
+import quadratix.tabu.LongTabu;
+import quadratix.tabu.MultiStartTabu;
+import quadratix.tabu.ReactiveTabu;
+import quadratix.tabu.RobustTabu;
 import quadratix.tabu.Tabu;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -23,14 +43,36 @@ import java.util.function.Function;
  */
 public class AssignementProblem {
 
+    /**
+     * The initial temperatures of the simulated annealing, by instance content hash. The map is never emptied: it keeps
+     * one entry per distinct instance loaded in the JVM. The key does not include the neighborhood set by
+     * {@link #setNeighborsFunction(int, int)}, so the temperature estimated with the neighborhood of the first annealing
+     * on an instance is reused with the other neighborhoods.
+     * @see AssignmentData#contentHash()
+     */
+    private static final ConcurrentHashMap<Long, Double> TEMPERATURES = new ConcurrentHashMap<>();
+
     private AssignmentData assignmentData = new AssignmentData();
     private Combination inCombination = new Combination();
     private Combination outCombination = new Combination();
     private Neighborhood neighborhood = new Neighborhood(new NeighborhoodFull());
 
-    private Function<Combination, Integer> f; //fitness
+    private Function<Combination, Long> f; //fitness
+    private AssignmentEvaluator evaluator;
+    private DeltaFunction<Combination, Long> delta; //fitness variation of a swap
     private Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> V_combination;
-    private NumberOperations<Integer> intOps = NumberOperations.getIntegerOperations();
+
+    // The algorithms run on permutations, the combinations are converted at the boundaries
+    private Function<Permutation, Long> f_permutation;
+    private DeltaFunction<Permutation, Long> delta_permutation;
+    private Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V_permutation;
+    private MoveNeighborhood<Permutation> N_permutation;
+    private NumberOperations<Long> longOps = NumberOperations.getLongOperations();
+    @Nullable
+    private Termination<Long> termination; //additional stopping criteria of the single-run algorithms
+    private int cacheCapacity; //0 if the fitness of the permutations is not cached
+    @Nullable
+    private FitnessCache<Permutation, Long> fitnessCache;
 
     public AssignementProblem() {}
 
@@ -67,7 +109,7 @@ public class AssignementProblem {
         this.inCombination = inCombination;
     }
 
-    public Function<Combination, Integer> getF() {
+    public Function<Combination, Long> getF() {
         return f;
     }
     
@@ -75,66 +117,314 @@ public class AssignementProblem {
         return V_combination;
     }
 
+    public AssignmentEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    public DeltaFunction<Combination, Long> getDelta() {
+        return delta;
+    }
+
+    @Nullable
+    public Termination<Long> getTermination() {
+        return termination;
+    }
+
+    /**
+     * Set the termination policy of the algorithms that run a single search (all but the multi-start and cooperative
+     * ones), for instance a deadline or the optimum as a target.
+     * @param termination The termination policy. Can be {@code null}.
+     */
+    public void setTermination(@Nullable Termination<Long> termination) {
+        this.termination = termination;
+    }
+
+    /**
+     * @return Return the cache of the fitness of the permutations, to read its statistics, or {@code null} if the
+     * fitness is not cached.
+     */
+    @Nullable
+    public FitnessCache<Permutation, Long> getFitnessCache() {
+        return fitnessCache;
+    }
+
+    /**
+     * Memoize the fitness of the permutations evaluated by the algorithms that call the fitness function (the delta
+     * functions are not cached). The cache is shared by the workers of the multi-start and cooperative searches, and
+     * emptied when an instance is loaded.
+     * @param cacheCapacity The maximum number of cached permutations. If 0, the fitness is not cached.
+     * @see FitnessCache
+     */
+    public void setCacheCapacity(int cacheCapacity) {
+        if (cacheCapacity < 0)
+            throw new IllegalArgumentException("The capacity cannot be negative.");
+
+        this.cacheCapacity = cacheCapacity;
+        if (evaluator != null)
+            this.setFitnessFunction();
+    }
+
     //endregion
 
     //region Algorithms
     
-    public void tabuAlgortihm(@Nullable Integer optima, int tabuSize) {
-        Tabu<Combination, Integer> tabu = new Tabu<>();
-        outCombination = tabu.search(f, inCombination, V_combination, intOps, tabuSize,100*this.assignmentData.getLength(), optima);
+    public void tabuAlgortihm(@Nullable Long optima, int tabuSize) {
+        Tabu<Permutation, Long> tabu = new Tabu<>();
+        tabu.setTermination(termination);
+        tabu.setDelta(delta_permutation);
+        outCombination = tabu.search(f_permutation, Permutation.of(inCombination), N_permutation, longOps, tabuSize,100*this.assignmentData.getLength(), optima)
+                .toCombination();
     }
 
     public void tabuAlgortihm() {
        this.tabuAlgortihm(null, this.assignmentData.getLength());
     }
 
+    /**
+     * Run the same tabu search as {@link #tabuAlgortihm(Long, int)}, on primitive {@code long} costs. The neighborhood
+     * of each iteration is scored in parallel once it is large enough.
+     * @param tabuSize The fixed size of the tabu list.
+     * @see LongTabu
+     * @see ParallelBatchEvaluator
+     */
+    public void longTabuAlgorithm(int tabuSize) {
+        LongTabu<Permutation> tabu = new LongTabu<>(tabuSize, 100*this.assignmentData.getLength());
+        tabu.setTermination(termination);
+        tabu.setDelta(evaluator::longDelta);
+        tabu.setBatchEvaluator(new ParallelBatchEvaluator<>(evaluator::cost, evaluator::longDelta));
+        outCombination = tabu.search(evaluator::cost, Permutation.of(inCombination), N_permutation)
+                .toCombination();
+    }
+
+    public void longTabuAlgorithm() {
+        this.longTabuAlgorithm(this.assignmentData.getLength());
+    }
+
+    /**
+     * Run a tabu search from each starting combination in parallel, on all the cores. The best result becomes the
+     * output combination.
+     * @param starts The starting combinations.
+     * @param tabuSize The fixed size of the tabu lists.
+     * @param seed The seed of the random number generators of the starts.
+     * @return Return the best permutation found and the statistics of each start.
+     * @see MultiStartTabu
+     */
+    public MultiStartTabu.Result<Permutation, Long> multiStartTabuAlgorithm(@NotNull List<Combination> starts, int tabuSize, long seed) {
+        List<Permutation> permutations = new ArrayList<>(starts.size());
+        for (Combination start : starts)
+            permutations.add(Permutation.of(start));
+
+        MultiStartTabu<Permutation, Long> multiStart = new MultiStartTabu<>(() -> {
+            Tabu<Permutation, Long> tabu = new Tabu<>();
+            tabu.setDelta(delta_permutation);
+            return tabu;
+        });
+        MultiStartTabu.Result<Permutation, Long> result = multiStart.search(f_permutation, permutations, N_permutation, longOps, tabuSize, 100*this.assignmentData.getLength(), seed);
+        if (result.getBest() != null)
+            outCombination = result.getBest().toCombination();
+        return result;
+    }
+
+    /**
+     * Run a cooperative tabu search: the workers share their best permutations through an elite pool, and restart from
+     * it when they stagnate.
+     * @param workers The number of workers, run in parallel.
+     * @param rounds The maximum number of rounds of {@code 10*n} iterations of each worker.
+     * @param optima The optimum of the problem. If it is given, the workers stop when it is reached. Can be
+     *               {@code null}.
+     * @param seed The seed of the random number generators of the workers.
+     * @see CooperativeTabu
+     */
+    public void cooperativeTabuAlgorithm(int workers, int rounds, @Nullable Long optima, long seed) {
+        final int length = this.assignmentData.getLength();
+        CooperativeTabu<Permutation, Long> cooperative = new CooperativeTabu<>(() -> {
+            Tabu<Permutation, Long> tabu = new Tabu<>();
+            tabu.setDelta(delta_permutation);
+            return tabu;
+        });
+        Permutation best = cooperative.search(f_permutation, workers, random -> Permutation.generateRandom(length, random), N_permutation, longOps, length, 10*length, rounds, optima, seed);
+        if (best != null)
+            outCombination = best.toCombination();
+    }
+
+    /**
+     * Tabu search where the cost variations of all the swaps are kept in a {@link DeltaMatrix}.
+     * @param optima The optimum of the problem, to know the convergence. Can be {@code null}.
+     * @param tabuSize The fixed size of the tabu list.
+     * @see DeltaMatrixTabu
+     */
+    public void deltaMatrixTabuAlgorithm(@Nullable Long optima, int tabuSize) {
+        DeltaMatrixTabu tabu = new DeltaMatrixTabu(evaluator);
+        tabu.setTermination(termination);
+        outCombination = tabu.search(Permutation.of(inCombination), tabuSize, 100*this.assignmentData.getLength(), optima)
+                .toCombination();
+    }
+
+    public void deltaMatrixTabuAlgorithm() {
+        this.deltaMatrixTabuAlgorithm(null, this.assignmentData.getLength());
+    }
+
+    /**
+     * Run a tabu search with an attribute-based memory: a facility cannot go back to the location it left for `tenure`
+     * iterations, unless the swap improves the best fitness.
+     * @param optima The optimum of the problem, to know the convergence. Can be {@code null}.
+     * @param tenure The number of iterations during which a move is forbidden.
+     * @see AttributeTabu
+     */
+    public void attributeTabuAlgorithm(@Nullable Long optima, int tenure) {
+        AttributeTabu tabu = new AttributeTabu(evaluator);
+        tabu.setTermination(termination);
+        outCombination = tabu.search(Permutation.of(inCombination), tenure, 100*this.assignmentData.getLength(), optima)
+                .toCombination();
+    }
+
+    public void attributeTabuAlgorithm() {
+        this.attributeTabuAlgorithm(null, this.assignmentData.getLength());
+    }
+
+    /**
+     * Run a robust tabu search, with a randomized tenure, aspiration and long-term diversification.
+     * @param optima The optimum of the problem. If it is given, the search stops when it is reached. Can be {@code null}.
+     * @param maxIteration The maximum number of iterations.
+     * @see RobustTabu
+     */
+    public void robustTabuAlgorithm(@Nullable Long optima, int maxIteration) {
+        RobustTabu tabu = new RobustTabu(evaluator);
+        tabu.setTermination(termination);
+        outCombination = tabu.search(Permutation.of(inCombination), maxIteration, optima).toCombination();
+    }
+
+    public void robustTabuAlgorithm() {
+        this.robustTabuAlgorithm(null, 30*this.assignmentData.getLength());
+    }
+
+    /**
+     * Run a reactive tabu search, where the tenure is adapted to the cycles met during the search.
+     * @param optima The optimum of the problem, to know the convergence. Can be {@code null}.
+     * @param maxIteration The maximum number of iterations.
+     * @see ReactiveTabu
+     */
+    public void reactiveTabuAlgorithm(@Nullable Long optima, int maxIteration) {
+        ReactiveTabu tabu = new ReactiveTabu(evaluator);
+        tabu.setTermination(termination);
+        outCombination = tabu.search(Permutation.of(inCombination), maxIteration, optima).toCombination();
+    }
+
+    public void reactiveTabuAlgorithm() {
+        this.reactiveTabuAlgorithm(null, 100*this.assignmentData.getLength());
+    }
+
     public void recuitAlgortihm(@Nullable Double t0) {
-        SimulatedAnnealing<Combination, Integer> simulatedAnnealing = new SimulatedAnnealing<>();
+        SimulatedAnnealing<Permutation, Long> simulatedAnnealing = new SimulatedAnnealing<>();
+        simulatedAnnealing.setTermination(termination);
+        simulatedAnnealing.setDelta(delta_permutation);
         outCombination = simulatedAnnealing.search(
-                f,
-                inCombination,
-                V_combination,
-                intOps,
-                t0 == null ?
-                SimulatedAnnealing.computeTemperature(
-                        f,
-                        V_combination,
-                        intOps,
-                        v -> Combination.generateRandom(getAssignmentData().getLength()),
-                        i -> (double) i,
-                        10)
-                : t0,
+                f_permutation,
+                Permutation.of(inCombination),
+                N_permutation,
+                longOps,
+                t0 == null ? computeTemperature() : t0,
                 100,
                 100,
-                0.1);
+                0.1)
+                .toCombination();
     }
 
     public void recuitAlgortihm() {
         recuitAlgortihm(null);
     }
 
+    /**
+     * Run a simulated annealing where each step draws a random swap, scores it in O(n) and applies it in place.
+     * @param t0 The initial temperature. If {@code null}, it is computed.
+     * @see DeltaSimulatedAnnealing
+     */
+    public void deltaRecuitAlgorithm(@Nullable Double t0) {
+        DeltaSimulatedAnnealing simulatedAnnealing = new DeltaSimulatedAnnealing(evaluator);
+        simulatedAnnealing.setTermination(termination);
+        outCombination = simulatedAnnealing.search(
+                Permutation.of(inCombination),
+                t0 == null ? computeTemperature() : t0,
+                100,
+                100,
+                0.1)
+                .toCombination();
+    }
+
+    public void deltaRecuitAlgorithm() {
+        deltaRecuitAlgorithm(null);
+    }
+
+    /**
+     * Run a parallel tempering, where the replicas run in parallel on a ladder of temperatures.
+     * @param t0 The hottest temperature of the ladder. If {@code null}, it is computed.
+     * @param replicas The number of replicas.
+     * @param seed The seed of the random number generators of the replicas.
+     * @see ParallelTempering
+     */
+    public void temperingAlgorithm(@Nullable Double t0, int replicas, long seed) {
+        ParallelTempering tempering = new ParallelTempering(evaluator, ParallelTempering.ladder(
+                t0 == null ? computeTemperature() : t0,
+                replicas));
+        tempering.setTermination(termination);
+        outCombination = tempering.search(
+                Permutation.of(inCombination),
+                100,
+                100 * getAssignmentData().getLength(),
+                seed)
+                .toCombination();
+    }
+
+    public void temperingAlgorithm() {
+        temperingAlgorithm(null, ParallelTempering.DEFAULT_REPLICAS, RandomProvider.current().nextLong());
+    }
+
     public void printOutput(){
         System.out.println("Result: f(" + outCombination + ") = " + f.apply(outCombination));
     }
 
     //endregion
 
+    /**
+     * Compute the initial temperature of the simulated annealing, with its neighbors evaluated in parallel. It is
+     * memoized per instance content, so the algorithms run again on the same instance do not compute it again.
+     * @return Return t0.
+     * @see SimulatedAnnealing#computeTemperature(Function, Function, NumberOperations, Function, Function, int, ForkJoinPool)
+     */
+    private double computeTemperature() {
+        long hash = assignmentData.contentHash();
+        Double t0 = TEMPERATURES.get(hash);
+        if (t0 == null) {
+            final int length = assignmentData.getLength();
+            t0 = SimulatedAnnealing.computeTemperature(
+                    f_permutation,
+                    V_permutation,
+                    longOps,
+                    v -> Permutation.generateRandom(length),
+                    i -> (double) i,
+                    10,
+                    ForkJoinPool.commonPool());
+            Double previous = TEMPERATURES.putIfAbsent(hash, t0);
+            if (previous != null)
+                t0 = previous;
+        }
+        return t0;
+    }
+
     private void setFitnessFunction() {
-        f = (final Combination c) -> {
-            int result = 0;
-            for (int i = 1; i <= assignmentData.getLength(); i++) {
-                for (int j = i + 1; j <= assignmentData.getLength(); j++) {
-                    result += assignmentData.getWeights().get(new Pair<>(c.get(i-1), c.get(j-1)))
-                            * assignmentData.getDistances().get(new Pair<>((long) i, (long) j));
-                }
-            }
-            return 2*result;
-        };
+        evaluator = new AssignmentEvaluator(assignmentData);
+        f = evaluator::cost;
+        delta = evaluator::delta;
+        fitnessCache = cacheCapacity > 0 ? new FitnessCache<>(evaluator::cost, cacheCapacity) : null;
+        f_permutation = fitnessCache != null ? fitnessCache : evaluator::cost;
+        delta_permutation = evaluator::delta;
     }
 
     void setNeighborsFunction(int type, int param){
         neighborhood.switchState(type, param);
         V_combination = neighborhood.getAllNeighborhoods();
+        V_permutation = neighborhood.getAllPermutationNeighborhoods();
+        N_permutation = neighborhood.getMoves();
     }
 
 }
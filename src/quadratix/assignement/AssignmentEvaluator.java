@@ -0,0 +1,224 @@
+package quadratix.assignement;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.LongDeltaFunction;
+import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swap;
+import quadratix.data.AssignmentData;
+
+/**
+ * Class that evaluates the cost of an assignement, and the cost variation of a swap in O(n).
+ * The cost of a permutation `p` (with indexes and values starting at 0) is
+ * {@code sum(distance(i, j) * weight(p[i], p[j]))} for all `i` and `j`. Symmetric and asymmetric instances are
+ * supported.
+ * <p>
+ * The evaluator has no state besides the instance, so it can be shared by concurrent searches.
+ * @see AssignmentData
+ * @see AssignementProblem
+ */
+public class AssignmentEvaluator {
+
+	private final int n;
+	private final long[] weights;
+	private final long[] distances;
+
+	/**
+	 * {@code true} if both matrices are symmetric. In that case, the swap delta is computed with half the products.
+	 */
+	private final boolean symmetric;
+
+	/**
+	 * Constructor. The costs are computed on 64 bits without any overflow check.
+	 * @param data The instance.
+	 * @throws quadratix.data.AssignmentDataException Thrown if the costs of the instance may exceed the range of a
+	 * {@code long}.
+	 * @see AssignmentData#checkCostRange()
+	 */
+	public AssignmentEvaluator(@NotNull AssignmentData data) {
+		data.checkCostRange();
+		this.n = data.getLength();
+		this.weights = data.getWeightMatrix();
+		this.distances = data.getDistanceMatrix();
+		this.symmetric = isSymmetric(weights, n) && isSymmetric(distances, n);
+	}
+
+	/**
+	 * Compute the cost of the permutation `p` in O(n²).
+	 * @param p The permutation, with values starting at 0.
+	 * @return Return the cost of `p`.
+	 */
+	public long cost(@NotNull final int[] p) {
+		long result = 0;
+		for (int i = 0; i < n; i++) {
+			final int dRow = i * n;
+			final int wRow = p[i] * n;
+			for (int j = 0; j < n; j++)
+				result += distances[dRow + j] * weights[wRow + p[j]];
+		}
+		return result;
+	}
+
+	/**
+	 * Compute in O(n) the cost variation when the elements at indexes `r` and `s` of `p` are swapped.
+	 * @param p The permutation, with values starting at 0. It is not modified.
+	 * @param r Index of the first element to swap.
+	 * @param s Index of the second element to swap.
+	 * @return Return {@code cost(p') - cost(p)}, where `p'` is `p` where `r` and `s` are swapped.
+	 */
+	public long swapDelta(@NotNull final int[] p, final int r, final int s) {
+		if (r == s)
+			return 0;
+
+		final int pr = p[r], ps = p[s];
+		final int rRow = r * n, sRow = s * n;
+		final int prRow = pr * n, psRow = ps * n;
+
+		long d = (distances[rRow + r] - distances[sRow + s]) * (weights[psRow + ps] - weights[prRow + pr]);
+
+		if (symmetric) {
+			long sum = 0;
+			for (int k = 0; k < n; k++) {
+				if (k != r && k != s) {
+					final int pkRow = p[k] * n;
+					sum += (distances[rRow + k] - distances[sRow + k]) * (weights[pkRow + ps] - weights[pkRow + pr]);
+				}
+			}
+			return d + 2 * sum;
+		}
+
+		d += (distances[rRow + s] - distances[sRow + r]) * (weights[psRow + pr] - weights[prRow + ps]);
+		for (int k = 0; k < n; k++) {
+			if (k != r && k != s) {
+				final int kRow = k * n;
+				final int pk = p[k];
+				final int pkRow = pk * n;
+				d += (distances[kRow + r] - distances[kRow + s]) * (weights[pkRow + ps] - weights[pkRow + pr]) +
+						(distances[rRow + k] - distances[sRow + k]) * (weights[psRow + pk] - weights[prRow + pk]);
+			}
+		}
+		return d;
+	}
+
+	/**
+	 * Update in O(1) the cost variation of the swap `(i, j)` after the swap `(r, s)` has been applied on `p`, as in
+	 * Taillard's robust tabu search. `i` and `j` must both be different from `r` and `s`.
+	 * @param p The permutation, after `r` and `s` have been swapped.
+	 * @param previous The value of {@code swapDelta(p, i, j)} before `r` and `s` have been swapped.
+	 * @param i Index of the first element of the swap to update.
+	 * @param j Index of the second element of the swap to update.
+	 * @param r Index of the first element of the applied swap.
+	 * @param s Index of the second element of the applied swap.
+	 * @return Return the new value of {@code swapDelta(p, i, j)}.
+	 * @see DeltaMatrix
+	 */
+	public long swapDeltaUpdate(@NotNull final int[] p, final long previous, final int i, final int j, final int r, final int s) {
+		final int iRow = i * n, jRow = j * n, rRow = r * n, sRow = s * n;
+		final int piRow = p[i] * n, pjRow = p[j] * n, prRow = p[r] * n, psRow = p[s] * n;
+		return previous +
+				(distances[rRow + i] - distances[rRow + j] + distances[sRow + j] - distances[sRow + i]) *
+				(weights[psRow + p[i]] - weights[psRow + p[j]] + weights[prRow + p[j]] - weights[prRow + p[i]]) +
+				(distances[iRow + r] - distances[jRow + r] + distances[jRow + s] - distances[iRow + s]) *
+				(weights[piRow + p[s]] - weights[pjRow + p[s]] + weights[pjRow + p[r]] - weights[piRow + p[r]]);
+	}
+
+	/**
+	 * Compute the cost of the permutation `p`.
+	 * @param p The permutation.
+	 * @return Return the cost of `p`.
+	 */
+	public long cost(@NotNull final Permutation p) {
+		return cost(p.array());
+	}
+
+	/**
+	 * Compute the fitness variation of a {@link Swap} applied on the permutation `x`. It can be used as a
+	 * {@link quadratix.DeltaFunction}.
+	 * @param x The permutation.
+	 * @param m The elementary function.
+	 * @return Return the fitness variation, or {@code null} if `m` is not a {@link Swap}.
+	 */
+	@Nullable
+	public Long delta(@NotNull final Permutation x, @NotNull final ElementaryFunction<Permutation> m) {
+		if (!(m instanceof Swap))
+			return null;
+
+		Swap<Permutation> swap = (Swap<Permutation>) m;
+		return swapDelta(x.array(), swap.getI(), swap.getJ());
+	}
+
+	/**
+	 * Compute the fitness variation of a {@link Swap} applied on the permutation `x`, without boxing. It can be used as
+	 * a {@link LongDeltaFunction}.
+	 * @param x The permutation.
+	 * @param m The elementary function.
+	 * @return Return the fitness variation, or {@link LongDeltaFunction#UNSUPPORTED} if `m` is not a
+	 * {@link Swap}.
+	 */
+	public long longDelta(@NotNull final Permutation x, @NotNull final ElementaryFunction<Permutation> m) {
+		if (!(m instanceof Swap))
+			return LongDeltaFunction.UNSUPPORTED;
+
+		Swap<Permutation> swap = (Swap<Permutation>) m;
+		return swapDelta(x.array(), swap.getI(), swap.getJ());
+	}
+
+	/**
+	 * Compute the cost of the combination `c` (with values starting at 1).
+	 * @param c The combination.
+	 * @return Return the cost of `c`.
+	 */
+	public long cost(@NotNull final Combination c) {
+		return cost(toPermutation(c, new int[n]));
+	}
+
+	/**
+	 * Compute the fitness variation of a {@link Swap} applied on the combination `x`. It can be used as a
+	 * {@link quadratix.DeltaFunction}. The combination is converted at each call, which costs O(n) like the delta
+	 * itself.
+	 * @param x The combination.
+	 * @param m The elementary function.
+	 * @return Return the fitness variation, or {@code null} if `m` is not a {@link Swap}.
+	 */
+	@Nullable
+	public Long delta(@NotNull final Combination x, @NotNull final ElementaryFunction<Combination> m) {
+		if (!(m instanceof Swap))
+			return null;
+
+		Swap<Combination> swap = (Swap<Combination>) m;
+		return swapDelta(toPermutation(x, new int[n]), swap.getI(), swap.getJ());
+	}
+
+	//region GETTERS
+
+	@Contract(pure = true)
+	public int getLength() {
+		return n;
+	}
+
+	@Contract(pure = true)
+	public boolean isSymmetric() {
+		return symmetric;
+	}
+
+	//endregion
+
+	@NotNull
+	private static int[] toPermutation(@NotNull final Combination c, @NotNull final int[] p) {
+		for (int i = 0; i < p.length; i++)
+			p[i] = (int) (c.get(i) - 1);
+		return p;
+	}
+
+	@Contract(pure = true)
+	private static boolean isSymmetric(@NotNull final long[] matrix, final int n) {
+		for (int i = 0; i < n; i++)
+			for (int j = i + 1; j < n; j++)
+				if (matrix[i * n + j] != matrix[j * n + i])
+					return false;
+		return true;
+	}
+}
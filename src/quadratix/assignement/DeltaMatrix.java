@@ -0,0 +1,74 @@
+package quadratix.assignement;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Table of the cost variations of all the swaps of a permutation. It is maintained across the iterations of a search:
+ * after a swap `(r, s)`, the entries that do not contain `r` nor `s` are updated in O(1), and the others are recomputed
+ * in O(n). Updating the whole table therefore costs O(n²) instead of O(n³).
+ * @see AssignmentEvaluator#swapDelta(int[], int, int)
+ * @see AssignmentEvaluator#swapDeltaUpdate(int[], long, int, int, int, int)
+ */
+public class DeltaMatrix {
+
+	private final AssignmentEvaluator evaluator;
+	private final int n;
+
+	/**
+	 * {@code deltas[i * n + j]} is the cost variation of the swap `(i, j)`, for `i` &lt; `j`.
+	 */
+	private final long[] deltas;
+
+	public DeltaMatrix(@NotNull AssignmentEvaluator evaluator) {
+		this.evaluator = evaluator;
+		this.n = evaluator.getLength();
+		this.deltas = new long[n * n];
+	}
+
+	/**
+	 * Compute all the entries of the table from scratch, in O(n³).
+	 * @param p The permutation, with values starting at 0.
+	 */
+	public void init(@NotNull final int[] p) {
+		for (int i = 0; i < n - 1; i++)
+			for (int j = i + 1; j < n; j++)
+				deltas[i * n + j] = evaluator.swapDelta(p, i, j);
+	}
+
+	/**
+	 * Update the table after the swap `(r, s)` has been applied on `p`, in O(n²).
+	 * @param p The permutation, after `r` and `s` have been swapped.
+	 * @param r Index of the first element of the applied swap.
+	 * @param s Index of the second element of the applied swap.
+	 */
+	public void update(@NotNull final int[] p, final int r, final int s) {
+		for (int i = 0; i < n - 1; i++) {
+			for (int j = i + 1; j < n; j++) {
+				if (i != r && i != s && j != r && j != s)
+					deltas[i * n + j] = evaluator.swapDeltaUpdate(p, deltas[i * n + j], i, j, r, s);
+				else
+					deltas[i * n + j] = evaluator.swapDelta(p, i, j);
+			}
+		}
+	}
+
+	/**
+	 * @param i Index of the first element of the swap.
+	 * @param j Index of the second element of the swap.
+	 * @return Return the cost variation of the swap `(i, j)`.
+	 */
+	@Contract(pure = true)
+	public long get(final int i, final int j) {
+		if (i < j)
+			return deltas[i * n + j];
+		else if (i > j)
+			return deltas[j * n + i];
+		return 0;
+	}
+
+	@Contract(pure = true)
+	public int getLength() {
+		return n;
+	}
+}
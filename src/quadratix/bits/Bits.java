@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Nullable;
 import quadratix.ElementaryFunction;
 import quadratix.NumberOperations;
 import quadratix.stats.Irregular;
+import quadratix.stats.RandomProvider;
 import quadratix.stats.Randomizable;
 
 import java.io.Serializable;
@@ -239,9 +240,10 @@ public class Bits extends Number implements Randomizable<Bits>, Comparable<Bits>
 	@NotNull
 	@Contract("_ -> new")
 	public static Bits generateRandom(final int length) {
+		Random random = RandomProvider.current();
 		StringBuilder v = new StringBuilder();
 		for (int i = 0; i < length; i++) {
-			v.append(new Random().nextBoolean() ? '1' : '0');
+			v.append(random.nextBoolean() ? '1' : '0');
 		}
 		assert v.length() == length;
 		return new Bits(v.toString(), length);
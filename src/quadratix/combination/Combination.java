@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Nullable;
 import quadratix.ElementaryFunction;
 import quadratix.NumberOperations;
 import quadratix.bits.Bits;
+import quadratix.stats.RandomProvider;
 import quadratix.stats.Randomizable;
 import sun.reflect.generics.reflectiveObjects.NotImplementedException;
 
@@ -17,7 +18,7 @@ import java.util.stream.Collectors;
 /**
  * Class that represents a combination of number.
  */
-public class Combination extends Vector<Long> implements Randomizable<Combination>, Serializable, Cloneable {
+public class Combination extends Vector<Long> implements Swappable<Combination>, Randomizable<Combination>, Serializable, Cloneable {
 
     public Combination(@NotNull Long... elements) {
         super(elements.length);
@@ -47,6 +48,7 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
      * @param i Index of the first element to swap.
      * @param j Index of the second element to swap.
      */
+    @Override
     public void swap(int i, int j) {
         if (i == j) return;
         Long li = get(i);
@@ -54,6 +56,15 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
         set(j, li);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @NotNull
+    @Override
+    public Combination copy() {
+        return new Combination(this);
+    }
+
     /**
      * Swap two element at index `i` and a random index `j`.
      *
@@ -67,7 +78,7 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
                 if (j != i)
                     indexes.add(j);
 
-            int j = indexes.get(new Random().nextInt(indexes.size()));
+            int j = indexes.get(RandomProvider.current().nextInt(indexes.size()));
             swap(i, j);
         }
     }
@@ -82,10 +93,11 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
             for (int i = 0; i < size(); i++)
                 indexes.add(i);
 
-            int index = new Random().nextInt(indexes.size());
+            Random random = RandomProvider.current();
+            int index = random.nextInt(indexes.size());
             int i = indexes.get(index);
             indexes.remove(index);
-            index = new Random().nextInt(indexes.size());
+            index = random.nextInt(indexes.size());
             int j = indexes.get(index);
             swap(i, j);
         }
@@ -130,25 +142,9 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
 
             for (int i = 0; i < combination.size() - 1; i++) {
                 for (int j = i + 1; j < combination.size(); j++) {
-                    Combination c = new Combination(combination);
                     if (swapDistance == null || Math.abs(i - j) <= swapDistance) {
-                        c.swap(i, j);
-                        final int final_i = i, final_j = j;
-                        map.put(c, new ElementaryFunction<Combination>() {
-                            @Override
-                            public Combination apply(Combination bits) {
-                                c.swap(final_i, final_j);
-                                return bits;
-                            }
-
-                            @Override
-                            public @NotNull Function<Combination, Combination> invert() {
-                                return bits1 -> {
-                                    c.swap(final_i, final_j);
-                                    return bits1;
-                                };
-                            }
-                        });
+                        Swap<Combination> swap = new Swap<>(i, j);
+                        map.put(swap.apply(combination), swap);
                     }
                 }
             }
@@ -161,32 +157,15 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
     @Contract(pure = true)
     public static Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> generateRandomNeighborhood(Integer neighSize) {
         return combination -> {
-            Random random = new Random();
+            Random random = RandomProvider.current();
             HashMap<Combination, ElementaryFunction<Combination>> map = new HashMap<>();
 
             for (int i = 0; i < neighSize; i++) {
-                Combination c = new Combination(combination);
-
                 int a = random.nextInt(combination.size());
                 int b = random.nextInt(combination.size());
 
-                c.swap(a, b);
-                final int final_a = a, final_b = b;
-                map.put(c, new ElementaryFunction<Combination>() {
-                    @Override
-                    public Combination apply(Combination bits) {
-                        c.swap(final_a, final_b);
-                        return bits;
-                    }
-
-                    @Override
-                    public @NotNull Function<Combination, Combination> invert() {
-                        return bits1 -> {
-                            c.swap(final_a, final_b);
-                            return bits1;
-                        };
-                    }
-                });
+                Swap<Combination> swap = new Swap<>(a, b);
+                map.put(swap.apply(combination), swap);
             }
 
             return map;
@@ -202,9 +181,29 @@ public class Combination extends Vector<Long> implements Randomizable<Combinatio
     }
 
     public static Combination generateRandom(final int length) {
+        return generateRandom(length, RandomProvider.current());
+    }
+
+    /**
+     * Generate a uniformly random combination of {@code 1, 2, ..., length} in O(n), with the Fisher–Yates algorithm.
+     * @param length The length of the combination.
+     * @param random The random number generator.
+     * @return Return a new random combination.
+     * @see Permutation#generateRandom(int, Random)
+     */
+    @NotNull
+    public static Combination generateRandom(final int length, @NotNull final Random random) {
         Combination c = new Combination(length);
-        for (int i = 0; i < length; i++) c.add((long) i + 1);
-        for (int i = 0; i < length; i++) c.swap();
+        // "Inside-out" Fisher–Yates: the identity is shuffled while it is written
+        for (int i = 0; i < length; i++) {
+            int j = random.nextInt(i + 1);
+            if (j == i) {
+                c.add((long) i + 1);
+            } else {
+                c.add(c.get(j));
+                c.set(j, (long) i + 1);
+            }
+        }
         return c;
     }
 
@@ -0,0 +1,310 @@
+package quadratix.combination;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.stats.RandomProvider;
+import quadratix.stats.Randomizable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Class that represents a permutation of the integers {@code 0, 1, ..., n-1}. It is a compact alternative to
+ * {@link Combination}: the elements are stored in an {@code int[]}, and nothing is synchronized nor boxed.
+ * <p>
+ * Contrary to {@link Combination}, the values start at 0. Use {@link #of(Combination)} and {@link #toCombination()} to
+ * convert from and to a combination.
+ * <p>
+ * The permutation maintains its {@link Zobrist} hash: it is computed once at construction, copied with the permutation
+ * and updated in O(1) by {@link #swap(int, int)} and {@link #set(int, int)}, so a neighbor built by a swap is hashed
+ * and compared in O(1) in the hash sets and the hash maps.
+ */
+public class Permutation implements Swappable<Permutation>, Randomizable<Permutation>, Serializable, Cloneable {
+
+	@NotNull
+	private final int[] elements;
+
+	/**
+	 * The Zobrist hash of {@link #elements}, kept up to date by every modification.
+	 */
+	private long hash;
+
+	/**
+	 * Construct a permutation from its elements. The array is copied.
+	 * @param elements The elements.
+	 */
+	public Permutation(@NotNull int[] elements) {
+		this.elements = elements.clone();
+		this.hash = Zobrist.hash(this.elements);
+	}
+
+	/**
+	 * Copy constructor.
+	 * @param permutation The permutation to copy.
+	 */
+	public Permutation(@NotNull Permutation permutation) {
+		this.elements = permutation.elements.clone();
+		this.hash = permutation.hash;
+	}
+
+	public int get(int i) {
+		return elements[i];
+	}
+
+	public void set(int i, int value) {
+		hash ^= Zobrist.key(i, elements[i]) ^ Zobrist.key(i, value);
+		elements[i] = value;
+	}
+
+	public int size() {
+		return elements.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void swap(int i, int j) {
+		if (i == j) return;
+		hash = Zobrist.swap(hash, elements, i, j);
+		int ei = elements[i];
+		elements[i] = elements[j];
+		elements[j] = ei;
+	}
+
+	/**
+	 * @return Return the 64-bit Zobrist hash of the permutation. Two equal permutations have the same hash.
+	 * @see Zobrist
+	 */
+	@Contract(pure = true)
+	public long hash64() {
+		return hash;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Permutation copy() {
+		return new Permutation(this);
+	}
+
+	/**
+	 * Give a direct access to the elements, for the evaluation loops. The array must not be modified: use
+	 * {@link #set(int, int)} or {@link #swap(int, int)} instead.
+	 * @return Return the internal array of the elements.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	public int[] array() {
+		return elements;
+	}
+
+	/**
+	 * @return Return a copy of the elements.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	public int[] toArray() {
+		return elements.clone();
+	}
+
+	//region COMBINATION ADAPTERS
+
+	/**
+	 * Construct the identity permutation {@code 0, 1, ..., length-1}.
+	 * @param length The length of the permutation.
+	 * @return Return a new permutation.
+	 */
+	@NotNull
+	@Contract("_ -> new")
+	public static Permutation identity(int length) {
+		int[] elements = new int[length];
+		for (int i = 0; i < length; i++)
+			elements[i] = i;
+		return new Permutation(elements);
+	}
+
+	/**
+	 * Convert a combination of the integers {@code 1, 2, ..., n} to a permutation.
+	 * @param combination The combination.
+	 * @return Return a new permutation, where each element is the element of `combination` minus 1.
+	 */
+	@NotNull
+	@Contract("_ -> new")
+	public static Permutation of(@NotNull Combination combination) {
+		int[] elements = new int[combination.size()];
+		int i = 0;
+		for (Long element : combination)
+			elements[i++] = (int) (element - 1);
+		return new Permutation(elements);
+	}
+
+	/**
+	 * Convert the permutation to a combination of the integers {@code 1, 2, ..., n}.
+	 * @return Return a new combination, where each element is the element of this permutation plus 1.
+	 */
+	@NotNull
+	@Contract(" -> new")
+	public Combination toCombination() {
+		Combination combination = new Combination(elements.length);
+		for (int element : elements)
+			combination.add((long) element + 1);
+		return combination;
+	}
+
+	//endregion
+
+	//region NEIGHBORHOODS
+
+	@NotNull
+	@Contract(pure = true)
+	public static Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> generateAllNeighbors() {
+		return generateAllNeighbors(null);
+	}
+
+	@NotNull
+	@Contract(pure = true)
+	public static Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> generateAllNeighbors(@Nullable Integer swapDistance) {
+		return permutation -> {
+			HashMap<Permutation, ElementaryFunction<Permutation>> map = new HashMap<>();
+
+			for (int i = 0; i < permutation.size() - 1; i++) {
+				for (int j = i + 1; j < permutation.size(); j++) {
+					if (swapDistance == null || Math.abs(i - j) <= swapDistance) {
+						Swap<Permutation> swap = new Swap<>(i, j);
+						map.put(swap.apply(permutation), swap);
+					}
+				}
+			}
+
+			return map;
+		};
+	}
+
+	@NotNull
+	@Contract(pure = true)
+	public static Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> generateRandomNeighborhood(Integer neighSize) {
+		return permutation -> {
+			Random random = RandomProvider.current();
+			HashMap<Permutation, ElementaryFunction<Permutation>> map = new HashMap<>();
+
+			for (int i = 0; i < neighSize; i++) {
+				int a = random.nextInt(permutation.size());
+				int b = random.nextInt(permutation.size());
+
+				Swap<Permutation> swap = new Swap<>(a, b);
+				map.put(swap.apply(permutation), swap);
+			}
+
+			return map;
+		};
+	}
+
+	//endregion
+
+	//region RANDOMIZABLE OVERRIDE
+
+	@NotNull
+	@Override
+	public Permutation generateRandom() {
+		return generateRandom(size());
+	}
+
+	@NotNull
+	@Contract("_ -> new")
+	public static Permutation generateRandom(final int length) {
+		return generateRandom(length, RandomProvider.current());
+	}
+
+	/**
+	 * Generate a uniformly random permutation in O(n), with the Fisher–Yates algorithm.
+	 * @param length The length of the permutation.
+	 * @param random The random number generator.
+	 * @return Return a new random permutation.
+	 */
+	@NotNull
+	@Contract("_, _ -> new")
+	public static Permutation generateRandom(final int length, @NotNull final Random random) {
+		Permutation p = identity(length);
+		fillRandom(p.elements, 0, length, random);
+		p.hash = Zobrist.hash(p.elements);
+		return p;
+	}
+
+	/**
+	 * Generate `count` uniformly random permutations at once, in a row-major buffer: the permutation {@code k} is
+	 * stored in {@code buffer[k * length]} to {@code buffer[(k + 1) * length - 1]}. Nothing is allocated if the buffer
+	 * is large enough, so it can be reused between calls.
+	 * @param length The length of the permutations.
+	 * @param count The number of permutations.
+	 * @param random The random number generator.
+	 * @param buffer The buffer to fill. If it is {@code null} or too small, a new one is allocated.
+	 * @return Return the filled buffer.
+	 */
+	@NotNull
+	public static int[] generateRandom(final int length, final int count, @NotNull final Random random, @Nullable int[] buffer) {
+		if (buffer == null || buffer.length < length * count)
+			buffer = new int[length * count];
+
+		for (int k = 0; k < count; k++)
+			fillRandom(buffer, k * length, length, random);
+		return buffer;
+	}
+
+	/**
+	 * Fill {@code a[offset]} to {@code a[offset + length - 1]} with a uniformly random permutation of
+	 * {@code 0, 1, ..., length-1}, with the "inside-out" Fisher–Yates algorithm: the identity is shuffled while it is
+	 * written, in a single pass.
+	 */
+	private static void fillRandom(@NotNull final int[] a, final int offset, final int length, @NotNull final Random random) {
+		for (int i = 0; i < length; i++) {
+			int j = random.nextInt(i + 1);
+			a[offset + i] = a[offset + j];
+			a[offset + j] = i;
+		}
+	}
+
+	//endregion
+
+	//region OBJECT OVERRIDES
+
+	@Override
+	@Contract(value = "null -> false", pure = true)
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Permutation)) return false;
+		Permutation that = (Permutation) o;
+		// Equal permutations have equal hashes, so the elements are only compared when the hashes match
+		return hash == that.hash && Arrays.equals(elements, that.elements);
+	}
+
+	@Override
+	public int hashCode() {
+		return Zobrist.fold(hash);
+	}
+
+	@Override
+	public Permutation clone() {
+		return copy();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < elements.length; i++) {
+			if (i > 0)
+				builder.append(", ");
+			builder.append(elements[i]);
+		}
+		return builder.toString();
+	}
+
+	//endregion
+}
@@ -0,0 +1,80 @@
+package quadratix.combination;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import quadratix.ElementaryFunction;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Elementary function that swaps the elements at indexes `i` and `j`. The given sequence is never modified: a swapped
+ * copy is returned instead. A swap is its own inverse.
+ * @param <T> The type of the sequence to swap.
+ */
+public class Swap<T extends Swappable<T>> implements ElementaryFunction<T> {
+	
+	private final int i;
+	private final int j;
+	
+	/**
+	 * Construct a swap.
+	 * @param i Index of the first element to swap.
+	 * @param j Index of the second element to swap.
+	 */
+	public Swap(int i, int j) {
+		this.i = i;
+		this.j = j;
+	}
+	
+	@NotNull
+	@Override
+	public T apply(@NotNull final T t) {
+		T c = t.copy();
+		c.swap(i, j);
+		return c;
+	}
+	
+	@NotNull
+	@Override
+	public Function<T, T> invert() {
+		return this;
+	}
+	
+	//region GETTERS
+	
+	@Contract(pure = true)
+	public int getI() {
+		return i;
+	}
+	
+	@Contract(pure = true)
+	public int getJ() {
+		return j;
+	}
+	
+	//endregion
+	
+	//region OBJECT OVERRIDES
+	
+	@Override
+	@Contract(value = "null -> false", pure = true)
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Swap)) return false;
+		Swap<?> swap = (Swap<?>) o;
+		return (i == swap.i && j == swap.j) || (i == swap.j && j == swap.i);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(Math.min(i, j), Math.max(i, j));
+	}
+	
+	@Override
+	public String toString() {
+		return "Swap(" + i + ", " + j + ")";
+	}
+	
+	//endregion
+}
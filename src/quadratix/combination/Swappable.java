@@ -0,0 +1,26 @@
+package quadratix.combination;
+
+/**
+ * Interface for the sequences whose elements can be swapped, such as {@link Combination}.
+ * @param <T> The class type that implements this interface.
+ * @see Swap
+ */
+public interface Swappable<T> {
+	
+	/**
+	 * @return Return the number of elements.
+	 */
+	int size();
+	
+	/**
+	 * Swap two element at indexes `i` and `j`.
+	 * @param i Index of the first element to swap.
+	 * @param j Index of the second element to swap.
+	 */
+	void swap(int i, int j);
+	
+	/**
+	 * @return Return a copy of this instance, that can be modified without altering this one.
+	 */
+	T copy();
+}
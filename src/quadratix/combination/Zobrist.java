@@ -0,0 +1,72 @@
+package quadratix.combination;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Zobrist hashing of the permutations. The hash of a permutation `p` is the xor of {@code key(i, p[i])} for all `i`,
+ * so swapping two elements updates it in O(1) with {@link #swap(long, int[], int, int)}, instead of hashing the whole
+ * permutation again.
+ * <p>
+ * The keys are not drawn in a table: they are computed from the position and the value with the finalizer of
+ * SplitMix64, so they exist for any length and any value, they are the same in every thread and every run, and the
+ * hash of a permutation only depends on its elements.
+ * @see Permutation#hash64()
+ */
+public class Zobrist {
+	
+	private static final long SEED = 0x9E3779B97F4A7C15L;
+	
+	private Zobrist() { }
+	
+	/**
+	 * @param position The index in the permutation.
+	 * @param value The element at `position`.
+	 * @return Return the pseudo-random key of `value` at `position`.
+	 */
+	@Contract(pure = true)
+	public static long key(int position, int value) {
+		long z = (((long) value << 32) | (position & 0xFFFFFFFFL)) + SEED;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+	/**
+	 * Compute the hash of a permutation in O(n).
+	 * @param p The elements of the permutation.
+	 * @return Return the xor of the keys of all the elements.
+	 */
+	@Contract(pure = true)
+	public static long hash(@NotNull int[] p) {
+		long hash = 0;
+		for (int i = 0; i < p.length; i++)
+			hash ^= key(i, p[i]);
+		return hash;
+	}
+	
+	/**
+	 * Update in O(1) the hash of `p` when its elements at `i` and `j` are swapped. It must be called before the swap.
+	 * @param hash The hash of `p`.
+	 * @param p The elements of the permutation, before the swap. It is not modified.
+	 * @param i Index of the first element to swap.
+	 * @param j Index of the second element to swap.
+	 * @return Return the hash of `p` once `i` and `j` are swapped.
+	 */
+	@Contract(pure = true)
+	public static long swap(long hash, @NotNull int[] p, int i, int j) {
+		if (i == j)
+			return hash;
+		
+		final int pi = p[i], pj = p[j];
+		return hash ^ key(i, pi) ^ key(j, pj) ^ key(i, pj) ^ key(j, pi);
+	}
+	
+	/**
+	 * Fold a 64-bit hash into a hash code.
+	 */
+	@Contract(pure = true)
+	static int fold(long hash) {
+		return (int) (hash ^ (hash >>> 32));
+	}
+}
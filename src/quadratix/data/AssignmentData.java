@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 
 /**
  * Gather all essential information to resolve an assignement proble.
+ * The weights and the distances are stored twice: in {@link HashMap} (kept for compatibility, with keys starting at 1)
+ * and in dense row-major matrices (with indexes starting at 0) used by the fitness function.
  * @see quadratix.assignement.AssignementProblem
  */
 public class AssignmentData {
@@ -16,19 +18,33 @@ public class AssignmentData {
     private HashMap<Pair<Long, Long>, Long> weights;
     private HashMap<Pair<Long, Long>, Long> distances;
 
+    /**
+     * Dense row-major matrix of the weights: {@code weightMatrix[i * length + j]} is the weight between {@code i+1}
+     * and {@code j+1}.
+     */
+    private long[] weightMatrix;
+
+    /**
+     * Dense row-major matrix of the distances: {@code distanceMatrix[i * length + j]} is the distance between
+     * {@code i+1} and {@code j+1}.
+     */
+    private long[] distanceMatrix;
+
     public AssignmentData() {
         this.weights = new HashMap<>();
         this.distances = new HashMap<>();
+        this.weightMatrix = new long[0];
+        this.distanceMatrix = new long[0];
     }
 
     public AssignmentData(@NotNull int length, @NotNull HashMap<Pair<Long, Long>, Long> weights,
                           @NotNull HashMap<Pair<Long, Long>, Long> distances) {
         if(weights.size() != distances.size())
             throw new AssignmentDataException("Weights and distances must have same size");
-        this.length = length;
-
         this.weights = new HashMap<>();
         this.distances = new HashMap<>();
+        this.setLength(length);
+
         weights.keySet().forEach(w -> this.addWeight(w, weights.get(w)));
         distances.keySet().forEach(d -> this.addDistance(d, distances.get(d)));
     }
@@ -36,12 +52,66 @@ public class AssignmentData {
     public void addWeight(Pair<Long, Long> pair, Long weight){
         if(!this.weights.containsKey(pair)){
             this.weights.put(pair,weight);
+            this.putInMatrix(this.weightMatrix, pair, weight);
         }
     }
 
     public void addDistance(Pair<Long, Long> pair, Long distance){
         if(!this.distances.containsKey(pair)){
             this.distances.put(pair,distance);
+            this.putInMatrix(this.distanceMatrix, pair, distance);
+        }
+    }
+
+    /**
+     * Get the weight between {@code i+1} and {@code j+1}.
+     * @param i The row index, starting at 0.
+     * @param j The column index, starting at 0.
+     * @return Return the weight, or 0 if it has not been informed.
+     */
+    public long getWeight(int i, int j) {
+        return this.weightMatrix[i * this.length + j];
+    }
+
+    /**
+     * Get the distance between {@code i+1} and {@code j+1}.
+     * @param i The row index, starting at 0.
+     * @param j The column index, starting at 0.
+     * @return Return the distance, or 0 if it has not been informed.
+     */
+    public long getDistance(int i, int j) {
+        return this.distanceMatrix[i * this.length + j];
+    }
+
+    /**
+     * Compute a 64-bit hash of the content of the instance (its length, its weights and its distances). Two instances
+     * with the same matrices have the same hash, so it can be used as a key to memoize values computed on an instance.
+     * @return Return the hash of the instance.
+     */
+    public long contentHash() {
+        long hash = this.length == null ? 0 : this.length;
+        for (long weight : this.weightMatrix)
+            hash = mix(hash, weight);
+        for (long distance : this.distanceMatrix)
+            hash = mix(hash, distance);
+        return hash;
+    }
+
+    /**
+     * Check that the costs of the instance can be computed on 64 bits. The absolute values of the costs, of the swap
+     * deltas and of their intermediate sums are all bounded by {@code 16 * n² * max|distance| * max|weight|}, so the
+     * check is done once, when the matrices are loaded, and the fitness functions do not check anything.
+     * @return Return the bound of the absolute values of the costs.
+     * @throws AssignmentDataException Thrown if the bound exceeds {@link Long#MAX_VALUE}.
+     * @see quadratix.assignement.AssignmentEvaluator
+     */
+    public long checkCostRange() {
+        long n = this.length == null ? 0 : this.length;
+        try {
+            long bound = Math.multiplyExact(16 * n * n, maxAbs(this.distanceMatrix));
+            return Math.multiplyExact(bound, maxAbs(this.weightMatrix));
+        } catch (ArithmeticException ex) {
+            throw new AssignmentDataException("The costs of the instance exceed the range of a 64-bit integer", ex);
         }
     }
 
@@ -54,22 +124,62 @@ public class AssignmentData {
 
     public void setLength(Integer length) {
         this.length = length;
+
+        int size = length == null ? 0 : length * length;
+        this.weightMatrix = new long[size];
+        this.distanceMatrix = new long[size];
+        this.weights.forEach((pair, weight) -> this.putInMatrix(this.weightMatrix, pair, weight));
+        this.distances.forEach((pair, distance) -> this.putInMatrix(this.distanceMatrix, pair, distance));
     }
 
+    /**
+     * @return Return a copy of the weights. Modifying it does not modify the instance: use
+     * {@link #addWeight(Pair, Long)} or {@link #setWeights(HashMap)}, so the matrix is updated too.
+     */
     public HashMap<Pair<Long, Long>, Long> getWeights() {
-        return weights;
+        return new HashMap<>(weights);
     }
 
+    /**
+     * @param weights The weights. They are copied, so modifying the map afterwards does not modify the instance.
+     */
     public void setWeights(HashMap<Pair<Long, Long>, Long> weights) {
-        this.weights = weights;
+        this.weights = new HashMap<>(weights);
+        this.weightMatrix = new long[this.weightMatrix.length];
+        this.weights.forEach((pair, weight) -> this.putInMatrix(this.weightMatrix, pair, weight));
     }
 
+    /**
+     * @return Return a copy of the distances. Modifying it does not modify the instance: use
+     * {@link #addDistance(Pair, Long)} or {@link #setDistances(HashMap)}, so the matrix is updated too.
+     */
     public HashMap<Pair<Long, Long>, Long> getDistances() {
-        return distances;
+        return new HashMap<>(distances);
     }
 
+    /**
+     * @param distances The distances. They are copied, so modifying the map afterwards does not modify the instance.
+     */
     public void setDistances(HashMap<Pair<Long, Long>, Long> distances) {
-        this.distances = distances;
+        this.distances = new HashMap<>(distances);
+        this.distanceMatrix = new long[this.distanceMatrix.length];
+        this.distances.forEach((pair, distance) -> this.putInMatrix(this.distanceMatrix, pair, distance));
+    }
+
+    /**
+     * @return Return the dense row-major matrix of the weights. The array is not copied, it must not be modified.
+     * @see #getWeight(int, int)
+     */
+    public long[] getWeightMatrix() {
+        return weightMatrix;
+    }
+
+    /**
+     * @return Return the dense row-major matrix of the distances. The array is not copied, it must not be modified.
+     * @see #getDistance(int, int)
+     */
+    public long[] getDistanceMatrix() {
+        return distanceMatrix;
     }
 
     public String weightsToString(){
@@ -101,9 +211,41 @@ public class AssignmentData {
         return stringBuilder.toString();
     }
 
+    private static long maxAbs(long[] matrix) {
+        long max = 0;
+        for (long value : matrix)
+            max = Math.max(max, Math.abs(value));
+        // Math.abs(Long.MIN_VALUE) is negative
+        return max < 0 ? Long.MAX_VALUE : max;
+    }
+
+    /**
+     * Combine a hash with a value, with the finalizer of SplitMix64 so that every bit of the value changes the hash.
+     */
+    private static long mix(long hash, long value) {
+        long z = (hash ^ value) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Copy a value of the {@link HashMap} API into its dense matrix. Values outside of the matrix (or given before the
+     * length) are ignored: they will be copied when {@link #setLength(Integer)} is called.
+     */
+    private void putInMatrix(long[] matrix, @NotNull Pair<Long, Long> pair, Long value) {
+        if (this.length == null || value == null)
+            return;
+
+        long i = pair.getKey() - 1;
+        long j = pair.getValue() - 1;
+        if (0 <= i && i < this.length && 0 <= j && j < this.length)
+            matrix[(int) i * this.length + (int) j] = value;
+    }
+
     @Override
     public String toString() {
         return this.weightsToString() +
                 this.distanceToString();
     }
-}
\ No newline at end of file
+}
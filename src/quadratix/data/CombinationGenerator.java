@@ -1,6 +1,8 @@
 package quadratix.data;
 
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.stats.RandomProvider;
 
 import java.io.*;
 import java.util.ArrayList;
@@ -25,8 +27,14 @@ public class CombinationGenerator {
     }
 
     public void generateFile() throws IOException {
+        // All the combinations are generated at once, with values starting at 0
+        int[] buffer = Permutation.generateRandom(combinationSize, NUMBER_COMBINATION, RandomProvider.current(), null);
         for (int i = 0; i < NUMBER_COMBINATION; i++) {
-            this.bufferedWriter.write(String.valueOf(Combination.generateRandom(combinationSize)));
+            for (int j = 0; j < combinationSize; j++) {
+                if (j > 0)
+                    this.bufferedWriter.write(", ");
+                this.bufferedWriter.write(Integer.toString(buffer[i * combinationSize + j] + 1));
+            }
             this.bufferedWriter.newLine();
         }
 
@@ -57,4 +65,12 @@ public class CombinationGenerator {
 
         return initialValues;
     }
+
+    public ArrayList<Permutation> readPermutations() throws IOException {
+        ArrayList<Permutation> initialValues = new ArrayList<>();
+        for (Combination combination : this.readFile())
+            initialValues.add(Permutation.of(combination));
+
+        return initialValues;
+    }
 }
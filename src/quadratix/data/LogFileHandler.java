@@ -18,8 +18,8 @@ public class LogFileHandler {
         }
     }
 
-    public void writeLogs(ArrayList<Integer> data) throws IOException {
-        for (Integer datum : data) {
+    public void writeLogs(ArrayList<Long> data) throws IOException {
+        for (Long datum : data) {
             this.bufferedWriter.write(datum.toString());
             this.bufferedWriter.newLine();
         }
@@ -45,18 +45,18 @@ public class TaillardReader {
                     throw new AssignmentDataException("No length found in Taillard file");
 
                 for (int i = 0; i < assignmentData.getLength(); i++) {
-                    int value;
+                    long value;
                     try {
-                        value = Integer.parseInt(lineContent[i]);
+                        value = Long.parseLong(lineContent[i]);
                     } catch (ArrayIndexOutOfBoundsException ex) {
                         throw new AssignmentDataException("Number of arguments exceed length");
                     }
 
                     if (spaceCounter == 1) {
-                        assignmentData.addDistance(new Pair<>((long) lineCounter, (long) i+1), (long) value);
+                        assignmentData.addDistance(new Pair<>((long) lineCounter, (long) i+1), value);
 
                     } else {
-                        assignmentData.addWeight(new Pair<>((long) lineCounter, (long) i+1), (long) value);
+                        assignmentData.addWeight(new Pair<>((long) lineCounter, (long) i+1), value);
 
                     }
                 }
@@ -76,6 +76,8 @@ public class TaillardReader {
         if (assignmentData.getDistances().size() != assignmentData.getWeights().size())
             throw new AssignmentDataException("Taillard's distances vector and weights vector must have same length");
 
+        assignmentData.checkCostRange();
+
         return assignmentData;
     }
 }
\ No newline at end of file
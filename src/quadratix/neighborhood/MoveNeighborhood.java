@@ -0,0 +1,101 @@
+package quadratix.neighborhood;
+
+import org.jetbrains.annotations.NotNull;
+import quadratix.ElementaryFunction;
+import quadratix.ListUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Neighborhood that gives the moves from a point lazily, instead of building a map of all the neighbors. A move is an
+ * elementary function (for instance a {@link quadratix.combination.Swap}); the neighbor itself is only built when the
+ * move is applied, so a search engine can score all the moves and materialize the chosen one only.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see SwapNeighborhood
+ * @see RandomSwapNeighborhood
+ */
+public interface MoveNeighborhood<P> {
+	
+	/**
+	 * @param x The current point.
+	 * @return Return the number of moves from `x`.
+	 */
+	int size(final P x);
+	
+	/**
+	 * Get a move from `x`.
+	 * @param x The current point.
+	 * @param k The index of the move, in [0 ; {@link #size(Object)}).
+	 * @return Return the k-th move from `x`.
+	 */
+	@NotNull
+	ElementaryFunction<P> get(final P x, final int k);
+	
+	/**
+	 * Get a neighborhood that draws its random numbers from `random`, so that concurrent searches do not share the same
+	 * generator. Deterministic neighborhoods return themselves.
+	 * @param random The random number generator.
+	 * @return Return a neighborhood with the same moves, that uses `random`.
+	 */
+	@NotNull
+	default MoveNeighborhood<P> withRandom(@NotNull final Random random) {
+		return this;
+	}
+	
+	/**
+	 * Pick randomly a move from `x`, in O(1).
+	 * @param x The current point. It must have at least one move.
+	 * @param random The random number generator.
+	 * @return Return a random move from `x`.
+	 */
+	@NotNull
+	default ElementaryFunction<P> pickRandomly(final P x, @NotNull final Random random) {
+		return get(x, random.nextInt(size(x)));
+	}
+	
+	/**
+	 * Pick randomly `k` distinct moves from `x`. It costs O(k), whatever the size of the neighborhood.
+	 * @param x The current point.
+	 * @param k The number of moves to pick. If `x` has less moves, all of them are picked.
+	 * @param random The random number generator.
+	 * @return Return the picked moves, in no particular order.
+	 * @see ListUtil#sampleIndexes(int, int, Random)
+	 */
+	@NotNull
+	default List<ElementaryFunction<P>> sample(final P x, final int k, @NotNull final Random random) {
+		int[] indexes = ListUtil.sampleIndexes(size(x), k, random);
+		List<ElementaryFunction<P>> moves = new ArrayList<>(indexes.length);
+		for (int index : indexes)
+			moves.add(get(x, index));
+		return moves;
+	}
+	
+	/**
+	 * @param x The current point.
+	 * @return Return an iterator over all the moves from `x`.
+	 */
+	@NotNull
+	default Iterator<ElementaryFunction<P>> iterator(final P x) {
+		final int size = size(x);
+		return new Iterator<ElementaryFunction<P>>() {
+			private int k;
+			
+			@Override
+			public boolean hasNext() {
+				return k < size;
+			}
+			
+			@Override
+			public ElementaryFunction<P> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return get(x, k++);
+			}
+		};
+	}
+}
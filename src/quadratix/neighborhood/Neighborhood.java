@@ -3,6 +3,8 @@ package quadratix.neighborhood;
 import org.jetbrains.annotations.Nullable;
 import quadratix.ElementaryFunction;
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swappable;
 
 import java.util.HashMap;
 import java.util.function.Function;
@@ -78,4 +80,22 @@ public class Neighborhood {
     public Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> getAllNeighborhoods() {
         return state.getNeighborhoods();
     }
+    
+    /**
+     * Generate all the neighborhood of a {@link Permutation} according to the current state.
+     * @return Return a neighborhood generator.
+     */
+    public Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> getAllPermutationNeighborhoods() {
+        return state.getPermutationNeighborhoods();
+    }
+    
+    /**
+     * Generate the neighborhood as lazy moves according to the current state.
+     * @param <P> The type of the sequence to swap.
+     * @return Return a move neighborhood.
+     * @see MoveNeighborhood
+     */
+    public <P extends Swappable<P>> MoveNeighborhood<P> getMoves() {
+        return state.getMoves();
+    }
 }
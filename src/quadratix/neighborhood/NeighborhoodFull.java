@@ -2,6 +2,8 @@ package quadratix.neighborhood;
 
 import quadratix.ElementaryFunction;
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swappable;
 
 import java.util.HashMap;
 import java.util.function.Function;
@@ -18,4 +20,20 @@ public class NeighborhoodFull extends NeighborhoodState {
     public Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> getNeighborhoods() {
         return Combination.generateAllNeighbors();
     }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> getPermutationNeighborhoods() {
+        return Permutation.generateAllNeighbors();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <P extends Swappable<P>> MoveNeighborhood<P> getMoves() {
+        return new SwapNeighborhood<>();
+    }
 }
@@ -2,6 +2,8 @@ package quadratix.neighborhood;
 
 import quadratix.ElementaryFunction;
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swappable;
 
 import java.util.HashMap;
 import java.util.function.Function;
@@ -28,4 +30,20 @@ public class NeighborhoodRandom extends NeighborhoodState {
     public Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> getNeighborhoods() {
         return Combination.generateRandomNeighborhood(neighSize);
     }
-}
\ No newline at end of file
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> getPermutationNeighborhoods() {
+        return Permutation.generateRandomNeighborhood(neighSize);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <P extends Swappable<P>> MoveNeighborhood<P> getMoves() {
+        return new RandomSwapNeighborhood<>(neighSize);
+    }
+}
@@ -2,6 +2,8 @@ package quadratix.neighborhood;
 
 import quadratix.ElementaryFunction;
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swappable;
 
 import java.util.HashMap;
 import java.util.function.Function;
@@ -12,4 +14,12 @@ import java.util.function.Function;
 public abstract class NeighborhoodState {
 
     abstract Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> getNeighborhoods();
+
+    abstract Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> getPermutationNeighborhoods();
+
+    /**
+     * @param <P> The type of the sequence to swap.
+     * @return Return the same neighborhood, as lazy moves.
+     */
+    abstract <P extends Swappable<P>> MoveNeighborhood<P> getMoves();
 }
@@ -0,0 +1,136 @@
+package quadratix.neighborhood;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ListUtil;
+import quadratix.combination.Swap;
+import quadratix.combination.Swappable;
+import quadratix.stats.RandomProvider;
+import quadratix.stats.SplitRandom;
+
+import java.util.Random;
+
+/**
+ * Neighborhood made of `neighSize` distinct random swaps `(i, j)`, with `i` &lt; `j`. The swaps of a point are drawn
+ * once, from a generator seeded by the point's hash code, so {@link #get(Swappable, int)} is a pure function of the
+ * point and `k`: iterating twice over the same point gives the same moves.
+ * @param <P> The type of the sequence to swap.
+ */
+public class RandomSwapNeighborhood<P extends Swappable<P>> implements MoveNeighborhood<P> {
+	
+	private final int neighSize;
+	
+	/**
+	 * The seed mixed with the hash code of the points, drawn from the random number generator given to the
+	 * constructor.
+	 */
+	private final long seed;
+	
+	/**
+	 * The swaps of the last point that has been asked. They only depend on the length and the hash code of the point,
+	 * so the cache can be shared between threads.
+	 */
+	@Nullable
+	private volatile Swaps<P> swaps;
+	
+	/**
+	 * Construct the neighborhood.
+	 * @param neighSize The size of the neighborhood to generate.
+	 * @param random The random number generator.
+	 */
+	public RandomSwapNeighborhood(int neighSize, @NotNull Random random) {
+		this.neighSize = neighSize;
+		this.seed = random.nextLong();
+	}
+	public RandomSwapNeighborhood(int neighSize) {
+		this(neighSize, RandomProvider.split());
+	}
+	
+	@Override
+	public int size(@NotNull final P x) {
+		return (int) Math.min(neighSize, pairs(x.size()));
+	}
+	
+	@NotNull
+	@Override
+	public ElementaryFunction<P> get(@NotNull final P x, final int k) {
+		return getSwaps(x)[k];
+	}
+	
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private Swap<P>[] getSwaps(@NotNull final P x) {
+		int length = x.size();
+		int hash = x.hashCode();
+		Swaps<P> cached = swaps;
+		if (cached == null || cached.length != length || cached.hash != hash) {
+			Random random = new SplitRandom(seed ^ hash * 0x9E3779B97F4A7C15L);
+			int[] indexes = ListUtil.sampleIndexes((int) Math.min(pairs(length), Integer.MAX_VALUE), neighSize, random);
+			Swap<P>[] array = (Swap<P>[]) new Swap<?>[indexes.length];
+			for (int c = 0; c < indexes.length; c++)
+				array[c] = pair(indexes[c], length);
+			
+			cached = new Swaps<>(length, hash, array);
+			swaps = cached;
+		}
+		return cached.swaps;
+	}
+	
+	/**
+	 * @param length The length of the sequence.
+	 * @return Return the number of swaps `(i, j)` with `i` &lt; `j`.
+	 */
+	private static long pairs(int length) {
+		return (long) length * (length - 1) / 2;
+	}
+	
+	/**
+	 * @param r The row of the swap.
+	 * @param length The length of the sequence.
+	 * @return Return the index of the swap `(r, r + 1)`, when the swaps are sorted by `i` then `j`.
+	 */
+	private static long rowStart(long r, int length) {
+		return r * (2L * length - r - 1) / 2;
+	}
+	
+	/**
+	 * @param t The index of the swap, when the swaps are sorted by `i` then `j`.
+	 * @param length The length of the sequence.
+	 * @return Return the `t`-th swap `(i, j)`, with `i` &lt; `j`.
+	 */
+	@NotNull
+	private static <P extends Swappable<P>> Swap<P> pair(int t, int length) {
+		double b = 2. * length - 1;
+		long r = (long) ((b - Math.sqrt(b * b - 8. * t)) / 2);
+		// Fix the rounding errors of the square root
+		while (r > 0 && rowStart(r, length) > t)
+			r--;
+		while (rowStart(r + 1, length) <= t)
+			r++;
+		
+		return new Swap<>((int) r, (int) (t - rowStart(r, length) + r + 1));
+	}
+	
+	@NotNull
+	@Override
+	public MoveNeighborhood<P> withRandom(@NotNull final Random random) {
+		return new RandomSwapNeighborhood<>(neighSize, random);
+	}
+	
+	public int getNeighSize() {
+		return neighSize;
+	}
+	
+	private static class Swaps<P extends Swappable<P>> {
+		private final int length;
+		private final int hash;
+		private final Swap<P>[] swaps;
+		
+		private Swaps(int length, int hash, Swap<P>[] swaps) {
+			this.length = length;
+			this.hash = hash;
+			this.swaps = swaps;
+		}
+	}
+}
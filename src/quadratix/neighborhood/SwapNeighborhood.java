@@ -0,0 +1,91 @@
+package quadratix.neighborhood;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.combination.Swap;
+import quadratix.combination.Swappable;
+
+import java.util.ArrayList;
+
+/**
+ * Neighborhood made of all the swaps `(i, j)`, with `i` &lt; `j`, optionally within a swap distance. The {@link Swap}s
+ * are immutable, so they are created once per length and shared across all the calls: iterating over the neighborhood
+ * does not allocate anything.
+ * @param <P> The type of the sequence to swap.
+ */
+public class SwapNeighborhood<P extends Swappable<P>> implements MoveNeighborhood<P> {
+	
+	private static final Swap<?>[] NO_SWAPS = new Swap<?>[0];
+	
+	/**
+	 * The maximum distance between `i` and `j`. If {@code null}, all the swaps are included.
+	 */
+	@Nullable
+	private final Integer swapDistance;
+	
+	/**
+	 * The swaps for the last length that has been asked. The array and its length are stored together, so the
+	 * neighborhood can be shared between threads.
+	 */
+	@NotNull
+	private volatile Swaps<P> swaps;
+	
+	/**
+	 * Construct the neighborhood.
+	 * @param swapDistance The maximum distance between the two indexes of a swap. If {@code null}, all the swaps are
+	 *                     included.
+	 */
+	@SuppressWarnings("unchecked")
+	public SwapNeighborhood(@Nullable Integer swapDistance) {
+		this.swapDistance = swapDistance;
+		this.swaps = new Swaps<>(0, (Swap<P>[]) NO_SWAPS);
+	}
+	
+	public SwapNeighborhood() {
+		this(null);
+	}
+	
+	@Override
+	public int size(@NotNull final P x) {
+		return getSwaps(x.size()).length;
+	}
+	
+	@NotNull
+	@Override
+	public ElementaryFunction<P> get(@NotNull final P x, final int k) {
+		return getSwaps(x.size())[k];
+	}
+	
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private Swap<P>[] getSwaps(final int length) {
+		Swaps<P> cached = swaps;
+		if (length != cached.length) {
+			ArrayList<Swap<P>> list = new ArrayList<>();
+			for (int i = 0; i < length - 1; i++)
+				for (int j = i + 1; j < length; j++)
+					if (swapDistance == null || j - i <= swapDistance)
+						list.add(new Swap<>(i, j));
+			
+			cached = new Swaps<>(length, list.toArray((Swap<P>[]) NO_SWAPS));
+			swaps = cached;
+		}
+		return cached.swaps;
+	}
+	
+	@Nullable
+	public Integer getSwapDistance() {
+		return swapDistance;
+	}
+	
+	private static class Swaps<P extends Swappable<P>> {
+		private final int length;
+		private final Swap<P>[] swaps;
+		
+		private Swaps(int length, Swap<P>[] swaps) {
+			this.length = length;
+			this.swaps = swaps;
+		}
+	}
+}
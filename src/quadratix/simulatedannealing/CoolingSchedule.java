@@ -0,0 +1,125 @@
+package quadratix.simulatedannealing;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Cooling schedule of a simulated annealing. The search runs a sequence of plateaus, and the schedule gives the
+ * temperature of the next plateau from the temperature and the statistics of the last one.
+ * <p>
+ * A schedule can have a state (for instance to reheat), that is reset at the beginning of each search: an instance must
+ * not be shared by concurrent searches.
+ * @see SimulatedAnnealing#setSchedule(CoolingSchedule)
+ * @see Equilibrium
+ */
+public interface CoolingSchedule {
+	
+	/**
+	 * Reset the state of the schedule. It is called at the beginning of each search.
+	 * @param t0 The initial temperature.
+	 */
+	default void reset(double t0) { }
+	
+	/**
+	 * Compute the temperature of the next plateau.
+	 * @param t The temperature of the last plateau.
+	 * @param steps The number of steps of the last plateau.
+	 * @param accepted The number of neighbors accepted during the last plateau.
+	 * @param improved {@code true} if the best point has been improved during the last plateau.
+	 * @return Return the temperature of the next plateau.
+	 */
+	double next(double t, int steps, int accepted, boolean improved);
+	
+	/**
+	 * Geometric schedule: {@code t(k+1) = mu * t(k)}.
+	 * @param mu Factor to decrease temperature at each plateau.
+	 * @return Return the schedule.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	static CoolingSchedule geometric(final double mu) {
+		if (mu <= 0)
+			throw new IllegalArgumentException("The factor must be positive.");
+		
+		return (t, steps, accepted, improved) -> mu * t;
+	}
+	
+	/**
+	 * Lundy-Mees schedule: {@code t(k+1) = t(k) / (1 + beta * t(k))}. The temperature decreases fast at the beginning,
+	 * then slowly at low temperature.
+	 * @param beta The cooling speed.
+	 * @return Return the schedule.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	static CoolingSchedule lundyMees(final double beta) {
+		if (beta <= 0)
+			throw new IllegalArgumentException("The cooling speed must be positive.");
+		
+		return (t, steps, accepted, improved) -> t / (1 + beta * t);
+	}
+	
+	/**
+	 * Adaptive schedule, driven by the acceptance ratio of the last plateau: {@code t(k+1) = mu^e * t(k)}, where
+	 * {@code e = ratio / target}, bounded in {@code [1, 2]}. Above the target ratio, the temperature decreases up to
+	 * twice as fast as the geometric schedule, so the budget is not spent at the temperatures where almost every
+	 * neighbor is accepted. At and below the target, it decreases as the geometric schedule: a plateau where nothing is
+	 * accepted does not stall the cooling.
+	 * @param mu Factor to decrease temperature at each plateau when the acceptance ratio is at most the target.
+	 * @param target The target acceptance ratio, in {@code ]0, 1]}.
+	 * @return Return the schedule.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	static CoolingSchedule adaptive(final double mu, final double target) {
+		if (mu <= 0 || mu >= 1)
+			throw new IllegalArgumentException("The factor must be in ]0, 1[.");
+		if (target <= 0 || target > 1)
+			throw new IllegalArgumentException("The target acceptance ratio must be in ]0, 1].");
+		
+		return (t, steps, accepted, improved) -> {
+			double ratio = steps == 0 ? 0 : (double) accepted / steps;
+			return Math.pow(mu, Math.max(1, Math.min(2, ratio / target))) * t;
+		};
+	}
+	
+	/**
+	 * Reheating schedule: it follows `schedule`, but when the best point has not been improved for `patience` plateaus,
+	 * the temperature goes back to the one of the last plateau that improved it (or to the initial temperature).
+	 * @param schedule The schedule to follow between two reheats.
+	 * @param patience The number of plateaus without improvement before a reheat.
+	 * @return Return a new schedule.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	static CoolingSchedule reheating(@NotNull final CoolingSchedule schedule, final int patience) {
+		if (patience <= 0)
+			throw new IllegalArgumentException("The patience must be positive.");
+		
+		return new CoolingSchedule() {
+			
+			private double tBest;
+			private int stagnation;
+			
+			@Override
+			public void reset(double t0) {
+				schedule.reset(t0);
+				tBest = t0;
+				stagnation = 0;
+			}
+			
+			@Override
+			public double next(double t, int steps, int accepted, boolean improved) {
+				if (improved) {
+					tBest = t;
+					stagnation = 0;
+				}
+				else if (++stagnation >= patience) {
+					stagnation = 0;
+					return tBest;
+				}
+				return schedule.next(t, steps, accepted, improved);
+			}
+		};
+	}
+}
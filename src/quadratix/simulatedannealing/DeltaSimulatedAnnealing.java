@@ -0,0 +1,310 @@
+package quadratix.simulatedannealing;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ISearch;
+import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.stats.RandomProvider;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Simulated annealing specialized for the quadratic assignment problem. At each step, a random swap is drawn and scored
+ * in O(n) with {@link AssignmentEvaluator#swapDelta(int[], int, int)}; if it is accepted, it is applied in place. The
+ * fitness of the current point is tracked instead of recomputed, and the best point is copied in a buffer allocated
+ * once: a step costs O(n) and allocates nothing.
+ * <p>
+ * The cooling is the same as in {@link SimulatedAnnealing}: `n1` plateaus of at most `n2` steps, with a geometric
+ * schedule of factor `mu` unless a {@link CoolingSchedule} is set.
+ * @see SimulatedAnnealing
+ */
+public class DeltaSimulatedAnnealing implements ISearch<Permutation, Long> {
+
+	/**
+	 * The number of steps between two checks of the termination policy.
+	 */
+	public static final int CHECK_PERIOD = 64;
+
+	private final AssignmentEvaluator evaluator;
+
+	/**
+	 * Initial temperature
+	 */
+	private double t0;
+
+	/**
+	 * Maximum number of iteration for first loop.
+	 */
+	private int n1;
+
+	/**
+	 * Maximum number of iteration for second loop.
+	 */
+	private int n2;
+
+	/**
+	 * Factor to decrease temperature at each iteration.
+	 */
+	private double mu;
+
+	@NotNull
+	private Random random = RandomProvider.split();
+
+	/**
+	 * Optional termination policy, checked every {@link #CHECK_PERIOD} steps.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+
+	/**
+	 * Optional cooling schedule. If it is not given, the temperature is multiplied by `mu` after each plateau.
+	 */
+	@Nullable
+	private CoolingSchedule schedule;
+
+	/**
+	 * Optional equilibrium detection. If it is given, a plateau ends before `n2` steps when it is at equilibrium.
+	 */
+	@Nullable
+	private Equilibrium equilibrium;
+
+	/**
+	 * The fitness of the point returned by the last search, as tracked by the search.
+	 */
+	private long bestFitness;
+
+	/**
+	 * The number of steps of the last search.
+	 */
+	private long steps;
+
+	/**
+	 * Constructor with parameters.
+	 * @param evaluator The evaluator of the instance.
+	 * @param t0 Initial temperature
+	 * @param n1 Maximum number of iteration for first loop.
+	 * @param n2 Maximum number of iteration for second loop.
+	 * @param mu Factor to decrease temperature at each iteration.
+	 */
+	public DeltaSimulatedAnnealing(@NotNull AssignmentEvaluator evaluator, double t0, int n1, int n2, double mu) {
+		this.evaluator = evaluator;
+		setT0(t0);
+		setN1(n1);
+		setN2(n2);
+		setMu(mu);
+	}
+
+	/**
+	 * Constructor with the same default values as {@link SimulatedAnnealing#SimulatedAnnealing()}.
+	 * @param evaluator The evaluator of the instance.
+	 */
+	public DeltaSimulatedAnnealing(@NotNull AssignmentEvaluator evaluator) {
+		this(evaluator, 1, 10, 10, 0.5);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The neighborhood `V` is not used: the neighbors are drawn among all the swaps of the current point.
+	 */
+	@Override
+	public Permutation search(@NotNull final Function<Permutation, Long> f, final Permutation x0, @NotNull final Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V, @NotNull final NumberOperations<Long> rOperation) {
+		return search(x0, getT0(), getN1(), getN2(), getMu());
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param x0 The starting point. It is not modified.
+	 * @param t0 Initial temperature
+	 * @param n1 Maximum number of iteration for first loop.
+	 * @param n2 Maximum number of iteration for second loop.
+	 * @param mu Factor to decrease temperature at each iteration. It is not used if a schedule is set.
+	 * @return Return the optimal point if found.
+	 */
+	@NotNull
+	public Permutation search(@NotNull final Permutation x0, final double t0, final int n1, final int n2, final double mu) {
+		final int n = evaluator.getLength();
+		Termination<Long>.Monitor monitor = termination != null ? termination.start(Long::compare) : null;
+
+		if (n < 2) {
+			bestFitness = evaluator.cost(x0);
+			steps = 0;
+			return x0.copy();
+		}
+
+		int[] p = x0.toArray();
+		int[] pmin = x0.toArray();
+		long fx = evaluator.cost(p);
+		long fmin = fx;
+		double tk = t0;
+		CoolingSchedule schedule = this.schedule != null ? this.schedule : CoolingSchedule.geometric(mu);
+		schedule.reset(t0);
+		long step = 0;
+
+		for (int k = 0; k < n1; k++) {
+			if (equilibrium != null)
+				equilibrium.reset();
+			int accepted = 0;
+			boolean improved = false;
+			int l = 0;
+			while (l < n2) {
+				// The termination policy is checked every CHECK_PERIOD steps, so that the fitness is not boxed at each step
+				if (monitor != null && step % CHECK_PERIOD == 0 && monitor.isOver(step, step, fmin)) {
+					bestFitness = fmin;
+					steps = step;
+					return new Permutation(pmin);
+				}
+				step++;
+				l++;
+
+				// Randomly select a swap (r, s), with r ≠ s
+				int r = random.nextInt(n);
+				int s = random.nextInt(n - 1);
+				if (s >= r)
+					s++;
+
+				long deltaF = evaluator.swapDelta(p, r, s);
+
+				boolean accept = deltaF <= 0 || random.nextDouble() <= Math.exp(- deltaF / tk);
+				if (accept) {
+					accepted++;
+					int pr = p[r];
+					p[r] = p[s];
+					p[s] = pr;
+					fx += deltaF;
+
+					if (fx < fmin) {
+						fmin = fx;
+						improved = true;
+						System.arraycopy(p, 0, pmin, 0, n);
+					}
+				}
+
+				if (equilibrium != null && equilibrium.update(accept, fx))
+					break;
+			}
+			tk = schedule.next(tk, l, accepted, improved);
+		}
+
+		bestFitness = fmin;
+		steps = step;
+		return new Permutation(pmin);
+	}
+
+	//region GETTERS & SETTERS
+
+	@Contract(pure = true)
+	public double getT0() {
+		return t0;
+	}
+
+	public void setT0(double t0) {
+		this.t0 = t0;
+	}
+
+	@Contract(pure = true)
+	public int getN1() {
+		return n1;
+	}
+
+	public void setN1(int n1) {
+		this.n1 = n1;
+	}
+
+	@Contract(pure = true)
+	public int getN2() {
+		return n2;
+	}
+
+	public void setN2(int n2) {
+		this.n2 = n2;
+	}
+
+	@Contract(pure = true)
+	public double getMu() {
+		return mu;
+	}
+
+	public void setMu(double mu) {
+		this.mu = mu;
+	}
+
+	@NotNull
+	@Contract(pure = true)
+	public Random getRandom() {
+		return random;
+	}
+
+	public void setRandom(@NotNull Random random) {
+		this.random = random;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	public CoolingSchedule getSchedule() {
+		return schedule;
+	}
+
+	/**
+	 * Set the cooling schedule of the searches.
+	 * @param schedule The cooling schedule. If {@code null}, the temperature is multiplied by `mu` after each plateau.
+	 */
+	public void setSchedule(@Nullable CoolingSchedule schedule) {
+		this.schedule = schedule;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	public Equilibrium getEquilibrium() {
+		return equilibrium;
+	}
+
+	/**
+	 * Set the equilibrium detection of the plateaus.
+	 * @param equilibrium The equilibrium detection. If {@code null}, every plateau has `n2` steps.
+	 */
+	public void setEquilibrium(@Nullable Equilibrium equilibrium) {
+		this.equilibrium = equilibrium;
+	}
+
+	/**
+	 * @return Return the fitness of the point returned by the last search. It is tracked with the deltas of the
+	 * accepted swaps, not recomputed.
+	 */
+	@Contract(pure = true)
+	public long getBestFitness() {
+		return bestFitness;
+	}
+
+	/**
+	 * @return Return the number of steps of the last search. It is less than {@code n1 * n2} if a plateau has reached
+	 * its equilibrium, or if the search has been terminated.
+	 */
+	@Contract(pure = true)
+	public long getSteps() {
+		return steps;
+	}
+
+	//endregion GETTERS & SETTERS
+}
@@ -0,0 +1,94 @@
+package quadratix.simulatedannealing;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Equilibrium detection of a simulated annealing plateau. The steps of a plateau are grouped in windows of `window`
+ * steps. The plateau is at equilibrium, and can end early, when the acceptance ratio and the mean cost of a window are
+ * within `tolerance` of the ones of the previous window. In particular, a plateau where nothing is accepted anymore
+ * ends after two windows.
+ * <p>
+ * An instance has a state: it must not be shared by concurrent searches.
+ * @see SimulatedAnnealing#setEquilibrium(Equilibrium)
+ * @see CoolingSchedule
+ */
+public class Equilibrium {
+	
+	private final int window;
+	private final double tolerance;
+	
+	private int count;
+	private int accepted;
+	private double sum;
+	private double lastRatio;
+	private double lastMean;
+	
+	/**
+	 * Constructor.
+	 * @param window The number of steps of a window.
+	 * @param tolerance The maximum variation of the acceptance ratio, and the maximum relative variation of the mean
+	 *                  cost, between two windows at equilibrium.
+	 */
+	public Equilibrium(int window, double tolerance) {
+		if (window <= 0)
+			throw new IllegalArgumentException("The window must be positive.");
+		if (tolerance < 0)
+			throw new IllegalArgumentException("The tolerance cannot be negative.");
+		
+		this.window = window;
+		this.tolerance = tolerance;
+		reset();
+	}
+	
+	/**
+	 * Reset the state. It is called at the beginning of each plateau.
+	 */
+	public void reset() {
+		count = 0;
+		accepted = 0;
+		sum = 0;
+		lastRatio = Double.NaN;
+		lastMean = Double.NaN;
+	}
+	
+	/**
+	 * Record a step of the plateau.
+	 * @param accepted {@code true} if the neighbor has been accepted.
+	 * @param cost The cost of the current point after the step.
+	 * @return Return {@code true} if the plateau is at equilibrium.
+	 */
+	public boolean update(boolean accepted, double cost) {
+		count++;
+		if (accepted)
+			this.accepted++;
+		sum += cost;
+		if (count < window)
+			return false;
+		
+		double ratio = (double) this.accepted / count;
+		double mean = sum / count;
+		boolean stable = Math.abs(ratio - lastRatio) <= tolerance &&
+				Math.abs(mean - lastMean) <= tolerance * Math.max(Math.abs(lastMean), 1);
+		
+		lastRatio = ratio;
+		lastMean = mean;
+		count = 0;
+		this.accepted = 0;
+		sum = 0;
+		return stable;
+	}
+	
+	//region GETTERS
+	
+	@Contract(pure = true)
+	public int getWindow() {
+		return window;
+	}
+	
+	@Contract(pure = true)
+	public double getTolerance() {
+		return tolerance;
+	}
+	
+	//endregion
+}
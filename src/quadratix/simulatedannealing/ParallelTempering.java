@@ -0,0 +1,313 @@
+package quadratix.simulatedannealing;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ISearch;
+import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.stats.RandomProvider;
+import quadratix.stats.SplitRandom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Parallel tempering (replica exchange) for the quadratic assignment problem. `K` replicas run the same steps as
+ * {@link DeltaSimulatedAnnealing}, each one at a fixed temperature of a ladder, and in parallel. After each sweep of
+ * `sweep` steps, the adjacent replicas {@code (k, k + 1)} exchange their states with the Metropolis probability
+ * {@code min(1, exp((1/T_k - 1/T_k+1) * (f_k - f_k+1)))}, so the good states found at high temperature go down the
+ * ladder, while the replicas at low temperature can escape their local optimum by going up. The even pairs
+ * {@code (0, 1), (2, 3), ...} try to exchange after the even sweeps, and the odd pairs after the odd ones: the pairs
+ * of a sweep are disjoint, so a state moves at most one rung per sweep.
+ * <p>
+ * The ladder is geometric, from a hot temperature where almost every swap is accepted to a cold temperature where the
+ * search is almost a descent. It can be calibrated from {@link SimulatedAnnealing#computeTemperature} with
+ * {@link #ladder(double, int)}.
+ * @see DeltaSimulatedAnnealing
+ */
+public class ParallelTempering implements ISearch<Permutation, Long> {
+
+	/**
+	 * The default number of replicas.
+	 */
+	public static final int DEFAULT_REPLICAS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * The ratio between the coldest and the hottest temperatures of a calibrated ladder.
+	 */
+	public static final double COLD_RATIO = 1e-3;
+
+	@NotNull
+	private final AssignmentEvaluator evaluator;
+	@NotNull
+	private final ForkJoinPool pool;
+	@NotNull
+	private double[] temperatures;
+
+	/**
+	 * The number of accepted exchanges between the replicas {@code k} and {@code k + 1} during the last search.
+	 */
+	@NotNull
+	private int[] exchanges = new int[0];
+
+	/**
+	 * The number of exchange attempts between the replicas {@code k} and {@code k + 1} during the last search.
+	 */
+	@NotNull
+	private int[] attempts = new int[0];
+
+	/**
+	 * Optional termination policy, checked after each sweep.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+
+	/**
+	 * Constructor.
+	 * @param evaluator The evaluator of the instance.
+	 * @param temperatures The temperatures of the replicas, from the hottest to the coldest.
+	 * @param pool The pool that runs the replicas.
+	 */
+	public ParallelTempering(@NotNull AssignmentEvaluator evaluator, @NotNull double[] temperatures, @NotNull ForkJoinPool pool) {
+		this.evaluator = evaluator;
+		this.pool = pool;
+		setTemperatures(temperatures);
+	}
+	/**
+	 * Constructor. The replicas are run in the common pool.
+	 * @param evaluator The evaluator of the instance.
+	 * @param temperatures The temperatures of the replicas, from the hottest to the coldest.
+	 */
+	public ParallelTempering(@NotNull AssignmentEvaluator evaluator, @NotNull double[] temperatures) {
+		this(evaluator, temperatures, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Compute a geometric ladder of temperatures.
+	 * @param t0 The hottest temperature, for instance the initial temperature given by
+	 *           {@link SimulatedAnnealing#computeTemperature}.
+	 * @param replicas The number of replicas.
+	 * @return Return the temperatures, from {@code t0} to {@code t0 * COLD_RATIO}.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	public static double[] ladder(double t0, int replicas) {
+		if (t0 <= 0)
+			throw new IllegalArgumentException("The temperature must be positive.");
+		if (replicas <= 0)
+			throw new IllegalArgumentException("The number of replicas must be positive.");
+
+		double[] ladder = new double[replicas];
+		for (int k = 0; k < replicas; k++)
+			ladder[k] = replicas == 1 ? t0 : t0 * Math.pow(COLD_RATIO, (double) k / (replicas - 1));
+		return ladder;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The neighborhood `V` is not used: the neighbors are drawn among all the swaps of the current points.
+	 */
+	@Override
+	public Permutation search(@NotNull final Function<Permutation, Long> f, final Permutation x0, @NotNull final Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V, @NotNull final NumberOperations<Long> rOperation) {
+		return search(x0, 100, 100 * evaluator.getLength(), RandomProvider.current().nextLong());
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param x0 The starting point of all the replicas. It is not modified.
+	 * @param sweeps The number of sweeps. The replicas try to exchange their states after each sweep.
+	 * @param sweep The number of steps of each replica during a sweep.
+	 * @param seed The seed from which the generators of the replicas are derived.
+	 * @return Return the best point found by the replicas.
+	 */
+	@NotNull
+	public Permutation search(@NotNull final Permutation x0, final int sweeps, final int sweep, final long seed) {
+		final int n = evaluator.getLength();
+		final int K = temperatures.length;
+		Termination<Long>.Monitor monitor = Termination.start(termination, Long::compare);
+		exchanges = new int[Math.max(0, K - 1)];
+		attempts = new int[Math.max(0, K - 1)];
+
+		if (n < 2)
+			return x0.copy();
+
+		SplitRandom master = RandomProvider.of(seed);
+		Replica[] replicas = new Replica[K];
+		for (int k = 0; k < K; k++)
+			replicas[k] = new Replica(x0.toArray(), master.split());
+		Random random = master.split();
+
+		List<Callable<Void>> tasks = new ArrayList<>(K);
+		for (int k = 0; k < K; k++) {
+			final int index = k;
+			tasks.add(() -> {
+				replicas[index].run(temperatures[index], sweep);
+				return null;
+			});
+		}
+
+		int[] pmin = x0.toArray();
+		long fmin = replicas[0].fx;
+		for (int t = 0; t < sweeps; t++) {
+			if (monitor.isOver(t, (long) t * K * sweep, fmin))
+				break;
+
+			invokeAll(tasks);
+
+			for (Replica replica : replicas) {
+				if (replica.fmin < fmin) {
+					fmin = replica.fmin;
+					System.arraycopy(replica.pmin, 0, pmin, 0, n);
+				}
+			}
+
+			/* Exchange the states of the even pairs of adjacent replicas, then of the odd pairs at the next sweep */
+			for (int k = t % 2; k < K - 1; k += 2) {
+				attempts[k]++;
+				double exponent = (1 / temperatures[k] - 1 / temperatures[k + 1]) * (replicas[k].fx - replicas[k + 1].fx);
+				if (exponent >= 0 || random.nextDouble() <= Math.exp(exponent)) {
+					replicas[k].exchange(replicas[k + 1]);
+					exchanges[k]++;
+				}
+			}
+		}
+
+		return new Permutation(pmin);
+	}
+
+	private void invokeAll(@NotNull List<Callable<Void>> tasks) {
+		try {
+			for (Future<Void> future : pool.invokeAll(tasks))
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The parallel tempering has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A replica of the parallel tempering has failed.", e.getCause());
+		}
+	}
+
+	/**
+	 * The state of a replica. Its temperature is given at each sweep, so exchanging two replicas only exchanges their
+	 * current points.
+	 */
+	private class Replica {
+
+		@NotNull
+		private int[] p;
+		private long fx;
+		@NotNull
+		private final int[] pmin;
+		private long fmin;
+		@NotNull
+		private final Random random;
+
+		Replica(@NotNull int[] p, @NotNull Random random) {
+			this.p = p;
+			this.fx = evaluator.cost(p);
+			this.pmin = p.clone();
+			this.fmin = fx;
+			this.random = random;
+		}
+
+		/**
+		 * Run `steps` steps of simulated annealing at the temperature `t`.
+		 */
+		void run(double t, int steps) {
+			final int n = p.length;
+			for (int l = 0; l < steps; l++) {
+				// Randomly select a swap (r, s), with r ≠ s
+				int r = random.nextInt(n);
+				int s = random.nextInt(n - 1);
+				if (s >= r)
+					s++;
+
+				long deltaF = evaluator.swapDelta(p, r, s);
+
+				if (deltaF <= 0 || random.nextDouble() <= Math.exp(- deltaF / t)) {
+					int pr = p[r];
+					p[r] = p[s];
+					p[s] = pr;
+					fx += deltaF;
+
+					if (fx < fmin) {
+						fmin = fx;
+						System.arraycopy(p, 0, pmin, 0, n);
+					}
+				}
+			}
+		}
+
+		void exchange(@NotNull Replica other) {
+			int[] p = this.p;
+			this.p = other.p;
+			other.p = p;
+
+			long fx = this.fx;
+			this.fx = other.fx;
+			other.fx = fx;
+		}
+	}
+
+	//region GETTERS & SETTERS
+
+	/**
+	 * @return Return the temperatures of the replicas, from the hottest to the coldest.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	public double[] getTemperatures() {
+		return temperatures.clone();
+	}
+
+	public void setTemperatures(@NotNull double[] temperatures) {
+		if (temperatures.length == 0)
+			throw new IllegalArgumentException("The ladder must have at least one temperature.");
+		for (double t : temperatures)
+			if (!(t > 0))
+				throw new IllegalArgumentException("The temperatures must be positive.");
+
+		this.temperatures = temperatures.clone();
+	}
+
+	/**
+	 * @return Return, for each pair of adjacent replicas {@code (k, k + 1)}, the ratio of accepted exchanges during the
+	 * last search. A ratio close to 0 means that the temperatures {@code k} and {@code k + 1} are too far apart.
+	 */
+	@NotNull
+	@Contract(pure = true)
+	public double[] getExchangeRates() {
+		double[] rates = new double[exchanges.length];
+		for (int k = 0; k < rates.length; k++)
+			rates[k] = attempts[k] == 0 ? 0 : (double) exchanges[k] / attempts[k];
+		return rates;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+
+	//endregion
+}
@@ -3,16 +3,25 @@ package quadratix.simulatedannealing;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import quadratix.DeltaFunction;
 import quadratix.ElementaryFunction;
 import quadratix.ISearch;
 import quadratix.ListUtil;
 import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.neighborhood.MoveNeighborhood;
 import quadratix.stats.Counter;
+import quadratix.stats.RandomProvider;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
@@ -49,6 +58,37 @@ public class SimulatedAnnealing<P, R extends Number> implements ISearch<P, R> {
 	 */
 	private Counter fitnessCall;
 	
+	/**
+	 * Optional function that computes the fitness variation of a move. If it is given, the neighbors are scored with
+	 * it instead of the fitness function.
+	 */
+	@Nullable
+	private DeltaFunction<P, R> delta;
+	
+	/**
+	 * Optional termination policy, checked at each iteration.
+	 */
+	@Nullable
+	private Termination<R> termination;
+	
+	/**
+	 * The random number generator of the searches.
+	 */
+	@NotNull
+	private Random random = RandomProvider.split();
+	
+	/**
+	 * Optional cooling schedule. If it is not given, the temperature is multiplied by `mu` after each plateau.
+	 */
+	@Nullable
+	private CoolingSchedule schedule;
+	
+	/**
+	 * Optional equilibrium detection. If it is given, a plateau ends before `n2` steps when it is at equilibrium.
+	 */
+	@Nullable
+	private Equilibrium equilibrium;
+	
 	/**
 	 * Constructor with parameters.
 	 * @param t0 Initial temperature
@@ -97,7 +137,7 @@ public class SimulatedAnnealing<P, R extends Number> implements ISearch<P, R> {
 	 * @param t0 Initial temperature
 	 * @param n1 Maximum number of iteration for first loop.
 	 * @param n2 Maximum number of iteration for second loop.
-	 * @param mu Factor to decrease temperature at each iteration.
+	 * @param mu Factor to decrease temperature at each iteration. It is not used if a schedule is set.
 	 * @return Return the optimal point if found.
 	 */
 	@Nullable
@@ -110,40 +150,159 @@ public class SimulatedAnnealing<P, R extends Number> implements ISearch<P, R> {
 	                final int n2,
 	                final double mu) {
 		fitnessCall.reset();
+		Termination<R>.Monitor monitor = Termination.start(termination, rOperation);
+		CoolingSchedule schedule = getSchedule(mu);
+		schedule.reset(t0);
 		P xmin = x0;
 		P xi = x0;
 		double tk = t0;
 		R fmin = f.apply(xmin);
+		// Fitness of the current point xi
+		R f_xi = fmin;
 		fitnessCall.increment();
-		int i = 0;
+		long step = 0;
 		
 		for (int k = 0; k < n1; k++) {
-			for (int l = 0; l < n2; l++) {
+			if (equilibrium != null)
+				equilibrium.reset();
+			int accepted = 0;
+			boolean improved = false;
+			int l = 0;
+			while (l < n2) {
+				if (monitor.isOver(step, fitnessCall.get(), fmin))
+					return xmin;
+				step++;
+				l++;
+				
 				// Randomly select y ∈ V(xi)
 				HashMap<P, ElementaryFunction<P>> elemFuns = V.apply(xi);
-				P y = ListUtil.pickRandomly(elemFuns.keySet());
+				P y = ListUtil.pickRandomly(elemFuns.keySet(), random);
 				
 				// Compute delta f
-				R f_xi = f.apply(xi);
-				R deltaF = rOperation.minus(f.apply(y), f_xi);
-				fitnessCall.increment(2);
+				R deltaF = null;
+				ElementaryFunction<P> m = elemFuns.get(y);
+				if (delta != null && m != null)
+					deltaF = delta.delta(xi, m);
+				if (deltaF == null)
+					deltaF = rOperation.minus(f.apply(y), f_xi);
+				fitnessCall.increment();
 				
+				boolean accept = false;
 				if (rOperation.compare(deltaF, rOperation.getZero()) <= 0) {
+					accept = true;
 					xi = y;
+					f_xi = rOperation.plus(f_xi, deltaF);
 					
 					if (rOperation.compare(f_xi, fmin) < 0) {
 						xmin = xi;
 						fmin = f_xi;
+						improved = true;
 					}
 				}
 				else {
 					// Randomly draw p ∈ [0 ; 1] according to uniform distribution
-					double p = new Random().nextDouble();
-					if (p <= Math.exp(- deltaF.doubleValue() / tk))
+					double p = random.nextDouble();
+					if (p <= Math.exp(- deltaF.doubleValue() / tk)) {
+						accept = true;
 						xi = y;
+						f_xi = rOperation.plus(f_xi, deltaF);
+					}
+				}
+				if (accept)
+					accepted++;
+				
+				if (equilibrium != null && equilibrium.update(accept, f_xi.doubleValue()))
+					break;
+			}
+			tk = schedule.next(tk, l, accepted, improved);
+		}
+		
+		return xmin;
+	}
+	
+	/**
+	 * Search the optimal point in a space of solutions, where the neighborhood is given as lazy moves. At each step, a
+	 * single random move is drawn and scored (through the delta function if it is set), and the neighbor is only built
+	 * if the move is accepted.
+	 * @param f The fitness function.
+	 * @param x0 The starting point.
+	 * @param N The neighborhood, that gives the moves from a point.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param t0 Initial temperature
+	 * @param n1 Maximum number of iteration for first loop.
+	 * @param n2 Maximum number of iteration for second loop.
+	 * @param mu Factor to decrease temperature at each iteration. It is not used if a schedule is set.
+	 * @return Return the optimal point if found.
+	 * @see MoveNeighborhood
+	 */
+	@Nullable
+	public P search(final @NotNull Function<P, R> f,
+	                final P x0,
+	                @NotNull final MoveNeighborhood<P> N,
+	                @NotNull final NumberOperations<R> rOperation,
+	                final double t0,
+	                final int n1,
+	                final int n2,
+	                final double mu) {
+		fitnessCall.reset();
+		Termination<R>.Monitor monitor = Termination.start(termination, rOperation);
+		CoolingSchedule schedule = getSchedule(mu);
+		schedule.reset(t0);
+		P xmin = x0;
+		P xi = x0;
+		double tk = t0;
+		R fmin = f.apply(xmin);
+		// Fitness of the current point xi
+		R f_xi = fmin;
+		fitnessCall.increment();
+		long step = 0;
+		
+		for (int k = 0; k < n1; k++) {
+			if (equilibrium != null)
+				equilibrium.reset();
+			int accepted = 0;
+			boolean improved = false;
+			int l = 0;
+			while (l < n2) {
+				if (monitor.isOver(step, fitnessCall.get(), fmin))
+					return xmin;
+				step++;
+				l++;
+				
+				int size = N.size(xi);
+				if (size == 0)
+					return xmin;
+				
+				// Randomly select a move m, such that m(xi) ∈ V(xi)
+				ElementaryFunction<P> m = N.pickRandomly(xi, random);
+				
+				// Compute delta f
+				R deltaF = delta != null ? delta.delta(xi, m) : null;
+				P y = null;
+				if (deltaF == null) {
+					y = m.apply(xi);
+					deltaF = rOperation.minus(f.apply(y), f_xi);
+				}
+				fitnessCall.increment();
+				
+				// Randomly draw p ∈ [0 ; 1] according to uniform distribution
+				boolean accept = rOperation.compare(deltaF, rOperation.getZero()) <= 0 || random.nextDouble() <= Math.exp(- deltaF.doubleValue() / tk);
+				if (accept) {
+					accepted++;
+					xi = y != null ? y : m.apply(xi);
+					f_xi = rOperation.plus(f_xi, deltaF);
+					
+					if (rOperation.compare(f_xi, fmin) < 0) {
+						xmin = xi;
+						fmin = f_xi;
+						improved = true;
+					}
 				}
+				
+				if (equilibrium != null && equilibrium.update(accept, f_xi.doubleValue()))
+					break;
 			}
-			tk = mu * tk;
+			tk = schedule.next(tk, l, accepted, improved);
 		}
 		
 		return xmin;
@@ -178,23 +337,87 @@ public class SimulatedAnnealing<P, R extends Number> implements ISearch<P, R> {
 		
 		for (int i = 0; i < nbIteration; i++) {
 			// Generate randomly a combination
-			P x = randomGenerator.apply(null);
-			
-			// Generate all its neighbors
-			ArrayList<P> neighbors = new ArrayList<>(V.apply(x).keySet());
-			
-			if (!neighbors.isEmpty()) {
-				// Select the worst neighbor (s.t. f(neighbor) is the biggest)
-				P worstNeighbor = neighbors.get(0);
-				for (P neighbor : neighbors) {
-					if (rOperation.compare(f.apply(neighbor), f.apply(worstNeighbor)) > 0)
-						worstNeighbor = neighbor;
-				}
-				// Compute deltaF
-				deltaFs.add(rOperation.abs(rOperation.minus(f.apply(x), f.apply(worstNeighbor))));
+			R deltaF = computeWorstDelta(f, V, rOperation, randomGenerator.apply(null));
+			if (deltaF != null)
+				deltaFs.add(deltaF);
+		}
+		
+		return computeTemperature(deltaFs, rToDouble);
+	}
+	
+	/**
+	 * Compute an approximation of the most optimal initial temperature t0, where the random elements are evaluated in
+	 * parallel. The elements are generated beforehand in the calling thread, so `randomGenerator` does not need to be
+	 * thread-safe, but `f` and `V` are called concurrently.
+	 * @param f The fitness function. It is called concurrently.
+	 * @param V A function that maps an element `P` to a list of neighbors associated with their function to find it (x
+	 *          -&gt; x'), and the invert function (x' -&gt; x). It is called concurrently.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param randomGenerator A function that return a random element of `P` at each call.
+	 * @param rToDouble A function that convert an element of type `R` to a real number ({@code double}).
+	 * @param nbIteration Number of iterations. The larger, the more accurate the computation will be.
+	 * @param pool The pool that evaluates the random elements.
+	 * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+	 *            ...).
+	 * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
+	 * @return Return t0.
+	 * @see #computeTemperature(Function, Function, NumberOperations, Function, Function, int)
+	 */
+	public static <P, R> double computeTemperature(final @NotNull Function<P, R> f,
+	                                               @NotNull final Function<P, HashMap<P, ElementaryFunction<P>>> V,
+	                                               @NotNull final NumberOperations<R> rOperation,
+	                                               @NotNull final Function<Void, P> randomGenerator,
+	                                               @NotNull final Function<R, Double> rToDouble,
+	                                               final int nbIteration,
+	                                               @NotNull final ForkJoinPool pool) {
+		List<Callable<R>> tasks = new ArrayList<>(nbIteration);
+		for (int i = 0; i < nbIteration; i++) {
+			// Generate randomly a combination
+			final P x = randomGenerator.apply(null);
+			tasks.add(() -> computeWorstDelta(f, V, rOperation, x));
+		}
+		
+		ArrayList<R> deltaFs = new ArrayList<>(nbIteration);
+		try {
+			for (Future<R> future : pool.invokeAll(tasks)) {
+				R deltaF = future.get();
+				if (deltaF != null)
+					deltaFs.add(deltaF);
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The computation of t0 has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("The computation of t0 has failed.", e.getCause());
+		}
+		
+		return computeTemperature(deltaFs, rToDouble);
+	}
+	
+	/**
+	 * Compute the fitness variation between `x` and its worst neighbor (s.t. f(neighbor) is the biggest).
+	 * @return Return |f(x) - f(worst neighbor)|, or {@code null} if `x` has no neighbor.
+	 */
+	@Nullable
+	private static <P, R> R computeWorstDelta(final @NotNull Function<P, R> f,
+	                                          @NotNull final Function<P, HashMap<P, ElementaryFunction<P>>> V,
+	                                          @NotNull final NumberOperations<R> rOperation,
+	                                          final P x) {
+		// Select the worst neighbor, and keep its fitness so that it is computed only once
+		R worst = null;
+		for (P neighbor : V.apply(x).keySet()) {
+			R fNeighbor = f.apply(neighbor);
+			if (worst == null || rOperation.compare(fNeighbor, worst) > 0)
+				worst = fNeighbor;
 		}
 		
+		return worst != null ? rOperation.abs(rOperation.minus(f.apply(x), worst)) : null;
+	}
+	
+	/**
+	 * Compute t0 from the fitness variations with the worst neighbors, with a probability to accept them of 80%.
+	 */
+	private static <R> double computeTemperature(@NotNull final List<R> deltaFs, @NotNull final Function<R, Double> rToDouble) {
 		// Compute the average of deltaF's
 		double avg;
 		try {
@@ -250,5 +473,86 @@ public class SimulatedAnnealing<P, R extends Number> implements ISearch<P, R> {
 		return fitnessCall.get();
 	}
 	
+	@Nullable
+	@Contract(pure = true)
+	public DeltaFunction<P, R> getDelta() {
+		return delta;
+	}
+	
+	/**
+	 * Set the function that computes the fitness variation of a move, in order to avoid evaluating every neighbor from
+	 * scratch.
+	 * @param delta The delta function. If {@code null}, the fitness function is used.
+	 */
+	public void setDelta(@Nullable DeltaFunction<P, R> delta) {
+		this.delta = delta;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<R> getTermination() {
+		return termination;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<R> termination) {
+		this.termination = termination;
+	}
+	
+	@NotNull
+	@Contract(pure = true)
+	public Random getRandom() {
+		return random;
+	}
+	
+	/**
+	 * Set the random number generator of the searches. It must not be shared with another thread.
+	 * @param random The random number generator.
+	 */
+	public void setRandom(@NotNull Random random) {
+		this.random = random;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	public CoolingSchedule getSchedule() {
+		return schedule;
+	}
+	
+	/**
+	 * @param mu Factor to decrease temperature at each plateau, if no schedule is set.
+	 * @return Return the cooling schedule, or a geometric schedule with the factor `mu` if there is none.
+	 */
+	@NotNull
+	private CoolingSchedule getSchedule(double mu) {
+		return schedule != null ? schedule : CoolingSchedule.geometric(mu);
+	}
+	
+	/**
+	 * Set the cooling schedule of the searches.
+	 * @param schedule The cooling schedule. If {@code null}, the temperature is multiplied by `mu` after each plateau.
+	 */
+	public void setSchedule(@Nullable CoolingSchedule schedule) {
+		this.schedule = schedule;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	public Equilibrium getEquilibrium() {
+		return equilibrium;
+	}
+	
+	/**
+	 * Set the equilibrium detection of the plateaus.
+	 * @param equilibrium The equilibrium detection. If {@code null}, every plateau has `n2` steps.
+	 */
+	public void setEquilibrium(@Nullable Equilibrium equilibrium) {
+		this.equilibrium = equilibrium;
+	}
+	
 	//endregion GETTERS & SETTERS
 }
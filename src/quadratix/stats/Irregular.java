@@ -6,7 +6,8 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Random;
 
 /**
- * Irregular is a class containing static functions that help generate random values.
+ * Irregular is a class containing static functions that help generate random values. Each thread uses its own
+ * generator, given by {@link RandomProvider#current()}.
  * Example:
  * <pre>
  * {@code
@@ -26,9 +27,6 @@ import java.util.Random;
  */
 public class Irregular {
 	
-	@NotNull
-	private static Random generator = new Random(System.currentTimeMillis());
-	
 	/**
 	 * Generate a random element by trying to infer the given type passed as argument.
 	 * @param clazz The class of the type.
@@ -53,6 +51,7 @@ public class Irregular {
 		if (min == max)
 			return null;
 		
+		Random generator = RandomProvider.current();
 		Object random = null;
 		
 		if (clazz.isAssignableFrom(int.class) || clazz.isAssignableFrom(Integer.class))
@@ -273,10 +272,11 @@ public class Irregular {
 	}
 	
 	/**
-	 * Set the seed for the random generator.
+	 * Set the seed for the random generator. The generator of each thread is derived from it.
 	 * @param seed The seed.
+	 * @see RandomProvider#setSeed(long)
 	 */
 	public static void setSeed(long seed) {
-		generator.setSeed(seed);
+		RandomProvider.setSeed(seed);
 	}
 }
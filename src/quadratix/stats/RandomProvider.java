@@ -0,0 +1,98 @@
+package quadratix.stats;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Central provider of the random number generators. All the generators are derived from a master seed:
+ * <ul>
+ *     <li>An engine or a worker owns its stream, created with {@link #split()} (or with {@link SplitRandom#split()} from
+ *     the stream of its parent), so its sequence does not depend on the other threads.</li>
+ *     <li>The code that has no stream of its own uses the stream of its thread, given by {@link #current()}.</li>
+ * </ul>
+ * With {@link #setSeed(long)}, the runs are reproducible, as long as the streams are created in the same order.
+ * Example:
+ * <pre>
+ * {@code
+ * RandomProvider.setSeed(42);
+ *
+ * // Each worker gets its own stream
+ * SplitRandom master = RandomProvider.split();
+ * for (Worker worker : workers)
+ *     worker.setRandom(master.split());
+ * }
+ * </pre>
+ * @see SplitRandom
+ */
+public class RandomProvider {
+	
+	@NotNull
+	private static SplitRandom master = new SplitRandom(System.nanoTime() ^ System.currentTimeMillis());
+	
+	/**
+	 * Incremented by {@link #setSeed(long)}, so that the streams of the threads are split again from the new master.
+	 */
+	private static volatile int generation;
+	
+	@NotNull
+	private static final ThreadLocal<Stream> streams = new ThreadLocal<>();
+	
+	private RandomProvider() { }
+	
+	/**
+	 * Set the master seed. The streams created afterwards, including the streams of the threads, are derived from it.
+	 * @param seed The seed.
+	 */
+	public static synchronized void setSeed(long seed) {
+		master = new SplitRandom(seed);
+		generation++;
+	}
+	
+	/**
+	 * Create a new stream from the master seed. It must not be shared by several threads.
+	 * @return Return the new stream.
+	 */
+	@NotNull
+	@Contract("-> new")
+	public static synchronized SplitRandom split() {
+		return master.split();
+	}
+	
+	/**
+	 * Create a new stream from the given seed, independently of the master seed. It must not be shared by several
+	 * threads.
+	 * @param seed The seed.
+	 * @return Return the new stream.
+	 */
+	@NotNull
+	@Contract("_ -> new")
+	public static SplitRandom of(long seed) {
+		return new SplitRandom(seed);
+	}
+	
+	/**
+	 * @return Return the stream of the current thread. It must not be given to another thread.
+	 */
+	@NotNull
+	public static SplitRandom current() {
+		Stream stream = streams.get();
+		int generation = RandomProvider.generation;
+		if (stream == null || stream.generation != generation) {
+			stream = new Stream(split(), generation);
+			streams.set(stream);
+		}
+		return stream.random;
+	}
+	
+	private static class Stream {
+		
+		@NotNull
+		private final SplitRandom random;
+		private final int generation;
+		
+		private Stream(@NotNull SplitRandom random, int generation) {
+			this.random = random;
+			this.generation = generation;
+		}
+	}
+}
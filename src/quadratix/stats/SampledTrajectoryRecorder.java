@@ -0,0 +1,84 @@
+package quadratix.stats;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Trajectory recorder that writes one point every `period` iterations to a stream, up to `limit` points. Each point is
+ * written on its own line as {@code iteration;fitness;point}, so nothing is kept in memory.
+ * @param <P> Denotes the parameter type of the fitness function.
+ * @param <R> represents the return type of the fitness function.
+ */
+public class SampledTrajectoryRecorder<P, R> implements TrajectoryRecorder<P, R> {
+	
+	@NotNull
+	private final Appendable sink;
+	private final int period;
+	private final int limit;
+	private int recorded;
+	
+	/**
+	 * Constructor.
+	 * @param sink The stream where the points are written, for instance a {@link java.io.Writer} or
+	 *             {@link System#out}.
+	 * @param period Only the iterations that are a multiple of `period` are recorded.
+	 * @param limit The maximum number of points to record.
+	 */
+	public SampledTrajectoryRecorder(@NotNull Appendable sink, int period, int limit) {
+		if (period <= 0)
+			throw new IllegalArgumentException("The period must be positive.");
+		if (limit < 0)
+			throw new IllegalArgumentException("The limit cannot be negative.");
+		
+		this.sink = sink;
+		this.period = period;
+		this.limit = limit;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @throws UncheckedIOException If the point cannot be written to the sink.
+	 */
+	@Override
+	public void record(int iteration, P x, R fx) {
+		if (recorded >= limit || iteration % period != 0)
+			return;
+		
+		try {
+			sink.append(String.valueOf(iteration))
+					.append(';')
+					.append(String.valueOf(fx))
+					.append(';')
+					.append(String.valueOf(x))
+					.append(System.lineSeparator());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		recorded++;
+	}
+	
+	//region GETTERS
+	
+	@Contract(pure = true)
+	public int getPeriod() {
+		return period;
+	}
+	
+	@Contract(pure = true)
+	public int getLimit() {
+		return limit;
+	}
+	
+	/**
+	 * @return Return the number of points written so far.
+	 */
+	@Contract(pure = true)
+	public int getRecorded() {
+		return recorded;
+	}
+	
+	//endregion
+}
@@ -0,0 +1,99 @@
+package quadratix.stats;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * {@link Random} backed by a {@link SplittableRandom}, so it can be given to every API that takes a {@link Random}.
+ * Unlike {@link Random}, it has no atomic seed, so it is faster, but it must not be shared by several threads: each
+ * thread must use its own generator, created with {@link #split()}. The generators split from the same seed always
+ * give the same sequences.
+ * @see RandomProvider
+ */
+public class SplitRandom extends Random {
+	
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * It is set by {@link #setSeed(long)}, that is called by the constructor of {@link Random}. It is not serializable,
+	 * so a seed drawn from it is serialized instead.
+	 */
+	private transient SplittableRandom generator;
+	
+	/**
+	 * Constructor.
+	 * @param seed The seed.
+	 */
+	public SplitRandom(long seed) {
+		super(seed);
+	}
+	
+	SplitRandom(@NotNull SplittableRandom generator) {
+		this.generator = generator;
+	}
+	
+	/**
+	 * Create a new generator, independent from this one. This generator is advanced.
+	 * @return Return the new generator.
+	 */
+	@NotNull
+	@Contract("-> new")
+	public SplitRandom split() {
+		return new SplitRandom(generator.split());
+	}
+	
+	/**
+	 * Write a seed drawn from the generator, from which the deserialized generator is created. This generator is
+	 * advanced, so serializing it twice gives two different generators.
+	 */
+	private void writeObject(@NotNull ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeLong(generator.nextLong());
+	}
+	
+	private void readObject(@NotNull ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		generator = new SplittableRandom(in.readLong());
+	}
+	
+	@Override
+	public void setSeed(long seed) {
+		generator = new SplittableRandom(seed);
+	}
+	
+	@Override
+	protected int next(int bits) {
+		return (int) (generator.nextLong() >>> (64 - bits));
+	}
+	
+	@Override
+	public int nextInt() {
+		return generator.nextInt();
+	}
+	
+	@Override
+	public int nextInt(int bound) {
+		return generator.nextInt(bound);
+	}
+	
+	@Override
+	public long nextLong() {
+		return generator.nextLong();
+	}
+	
+	@Override
+	public double nextDouble() {
+		return generator.nextDouble();
+	}
+	
+	@Override
+	public boolean nextBoolean() {
+		return generator.nextBoolean();
+	}
+}
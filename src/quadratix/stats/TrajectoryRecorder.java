@@ -0,0 +1,20 @@
+package quadratix.stats;
+
+/**
+ * Interface that receives the points visited by a search, for diagnostics. The search does not keep its trajectory in
+ * memory: it only gives each point to the recorder, which decides what to keep.
+ * @param <P> Denotes the parameter type of the fitness function.
+ * @param <R> represents the return type of the fitness function.
+ * @see SampledTrajectoryRecorder
+ */
+@FunctionalInterface
+public interface TrajectoryRecorder<P, R> {
+	
+	/**
+	 * Record a point of the trajectory.
+	 * @param iteration The iteration where the point is visited.
+	 * @param x The point. It can be modified by the search afterwards.
+	 * @param fx The fitness of `x`.
+	 */
+	void record(int iteration, P x, R fx);
+}
@@ -0,0 +1,180 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ISearch;
+import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.assignement.DeltaMatrix;
+import quadratix.combination.Permutation;
+
+import java.util.HashMap;
+import java.util.function.Function;
+
+/**
+ * Tabu search for the quadratic assignment problem, where the tabu list is replaced by an attribute-based memory: when
+ * a swap is applied, both facilities are forbidden to go back to their previous location for `tenure` iterations. The
+ * cost variations are kept in a {@link DeltaMatrix}, so an iteration costs O(n²) and the tabu check is O(1).
+ * <p>
+ * With aspiration, a tabu swap is allowed if it improves the best fitness found so far. If all the swaps are tabu, the
+ * best one is applied anyway.
+ * @see TabuMatrix
+ * @see DeltaMatrixTabu
+ */
+public class AttributeTabu implements ISearch<Permutation, Long> {
+
+	private final AssignmentEvaluator evaluator;
+	private int tenure;
+	private boolean aspiration = true;
+
+	/**
+	 * Optional termination policy, checked at each iteration.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+
+	public AttributeTabu(@NotNull AssignmentEvaluator evaluator, int tenure) {
+		this.evaluator = evaluator;
+		setTenure(tenure);
+	}
+	public AttributeTabu(@NotNull AssignmentEvaluator evaluator) {
+		this(evaluator, evaluator.getLength());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The neighborhood `V` is not used: all the swaps of the current point are explored.
+	 */
+	@Override
+	public Permutation search(@NotNull final Function<Permutation, Long> f, final Permutation x0, @NotNull final Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V, @NotNull final NumberOperations<Long> rOperation) {
+		return search(x0, getTenure(), Tabu.DEFAULT_MAX_ITERATION, null);
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param x0 The starting point.
+	 * @param tenure The number of iterations during which a facility cannot go back to the location it left.
+	 * @param maxIteration The maximum number of iterations the algorithm can do.
+	 * @param optima The optimum of the problem. If it is given, the algorithm will print when the optimum is found for
+	 *               the first time. Default value is {@code null}.
+	 * @return Return the optimal point if found.
+	 */
+	@NotNull
+	public Permutation search(@NotNull final Permutation x0, final int tenure, final int maxIteration, @Nullable Long optima) {
+		final int n = evaluator.getLength();
+		final long pairs = (long) n * (n - 1) / 2;
+		Termination<Long>.Monitor monitor = Termination.start(termination, Long::compare);
+		int firstIteration = -1;
+
+		Permutation x = x0.copy();
+		int[] p = x.array();
+		Permutation xmin = x0;
+		long fx = evaluator.cost(p);
+		long fmin = fx;
+
+		DeltaMatrix deltas = new DeltaMatrix(evaluator);
+		deltas.init(p);
+		TabuMatrix memory = new TabuMatrix(n);
+
+		int i = 0;
+		boolean moved;
+		do {
+			if (firstIteration == -1 && optima != null && fmin == optima) {
+				firstIteration = i;
+			}
+			if (monitor.isOver(i, i * pairs, fmin))
+				break;
+
+			/* Choose the allowed swap (r, s) s.t. delta(r, s) is minimal, and the best tabu one as a fallback */
+			int r = -1, s = -1, tabuR = -1, tabuS = -1;
+			long best = Long.MAX_VALUE, bestTabu = Long.MAX_VALUE;
+			for (int a = 0; a < n - 1; a++) {
+				for (int b = a + 1; b < n; b++) {
+					long d = deltas.get(a, b);
+					boolean allowed = !memory.isTabu(p, a, b, i) || (isAspiration() && fx + d < fmin);
+					if (allowed && d < best) {
+						best = d;
+						r = a;
+						s = b;
+					}
+					else if (!allowed && d < bestTabu) {
+						bestTabu = d;
+						tabuR = a;
+						tabuS = b;
+					}
+				}
+			}
+			if (r == -1) {
+				best = bestTabu;
+				r = tabuR;
+				s = tabuS;
+			}
+
+			moved = r != -1;
+			if (moved) {
+				memory.forbid(p, r, s, i + tenure, i + tenure);
+				x.swap(r, s);
+				fx += best;
+				deltas.update(p, r, s);
+
+				if (fx < fmin) {
+					fmin = fx;
+					xmin = x.copy();
+				}
+
+				i++;
+			}
+		} while (i < maxIteration && moved);
+
+		if (firstIteration != -1) {
+			System.out.println("Optima BFK reached at iteration " + firstIteration);
+		} else if (optima != null) {
+			System.out.println("Optima BFK not reached");
+		}
+
+		return xmin;
+	}
+
+	//region GETTER & SETTER
+
+	@Contract(pure = true)
+	public int getTenure() {
+		return tenure;
+	}
+
+	public void setTenure(int tenure) {
+		if (tenure < 0)
+			throw new IllegalArgumentException("The tenure cannot be negative.");
+
+		this.tenure = tenure;
+	}
+
+	@Contract(pure = true)
+	public boolean isAspiration() {
+		return aspiration;
+	}
+
+	public void setAspiration(boolean aspiration) {
+		this.aspiration = aspiration;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+
+	//endregion
+}
@@ -0,0 +1,165 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.NumberOperations;
+import quadratix.neighborhood.MoveNeighborhood;
+import quadratix.stats.RandomProvider;
+import quadratix.stats.SplitRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cooperative parallel tabu search. Several workers run the {@link Tabu} engine by rounds of `roundIteration`
+ * iterations. After each round, a worker offers its best point to a shared {@link ElitePool}. If the round has improved
+ * the point of the worker, the next round starts from it; otherwise, it starts from a point of the pool, so the workers
+ * that stagnate move to the most promising regions found by the others. The pool is lock-free, so the workers never
+ * wait for each other.
+ * <p>
+ * The workers stop after `rounds` rounds, or as soon as one of them reaches the target.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
+ * @see MultiStartTabu
+ */
+public class CooperativeTabu<P, R> {
+
+	/**
+	 * The default capacity of the elite pool.
+	 */
+	public static final int DEFAULT_POOL_CAPACITY = 10;
+
+	@NotNull
+	private final Supplier<Tabu<P, R>> tabuFactory;
+	@NotNull
+	private final ForkJoinPool pool;
+	private int poolCapacity = DEFAULT_POOL_CAPACITY;
+
+	/**
+	 * The elite pool of the last search.
+	 */
+	@Nullable
+	private ElitePool<P, R> elitePool;
+
+	/**
+	 * Constructor.
+	 * @param tabuFactory Create a new tabu search for each worker. It must not share mutable state between the
+	 *                    instances.
+	 * @param pool The pool that runs the workers.
+	 */
+	public CooperativeTabu(@NotNull Supplier<Tabu<P, R>> tabuFactory, @NotNull ForkJoinPool pool) {
+		this.tabuFactory = tabuFactory;
+		this.pool = pool;
+	}
+	/**
+	 * Constructor. The workers are run in the common pool.
+	 * @param tabuFactory Create a new tabu search for each worker. It must not share mutable state between the
+	 *                    instances.
+	 */
+	public CooperativeTabu(@NotNull Supplier<Tabu<P, R>> tabuFactory) {
+		this(tabuFactory, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param f The fitness function. It is called concurrently.
+	 * @param workers The number of workers.
+	 * @param generator Generate the starting point of a worker from its random number generator.
+	 * @param N The neighborhood. Each worker uses {@link MoveNeighborhood#withRandom(Random)} with its own generator.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param tabuSize The fixed size of the tabu lists.
+	 * @param roundIteration The number of iterations of a round.
+	 * @param rounds The maximum number of rounds of each worker.
+	 * @param target If it is given, the workers stop when a point at least as good is found. Can be {@code null}.
+	 * @param seed The seed from which the generators of the workers are derived.
+	 * @return Return the best point found by the workers.
+	 */
+	@Nullable
+	public P search(@NotNull final Function<P, R> f, final int workers, @NotNull final Function<Random, P> generator, @NotNull final MoveNeighborhood<P> N, @NotNull final NumberOperations<R> rOperation, final int tabuSize, final int roundIteration, final int rounds, @Nullable final R target, final long seed) {
+		final ElitePool<P, R> elite = new ElitePool<>(getPoolCapacity(), rOperation);
+		elitePool = elite;
+
+		SplitRandom master = RandomProvider.of(seed);
+		List<Callable<Void>> tasks = new ArrayList<>(workers);
+		for (int w = 0; w < workers; w++) {
+			final Random random = master.split();
+			tasks.add(() -> {
+				MoveNeighborhood<P> neighborhood = N.withRandom(random);
+				Tabu<P, R> tabu = tabuFactory.get();
+
+				P x = generator.apply(random);
+				R fx = f.apply(x);
+				for (int round = 0; round < rounds && !isReached(elite, rOperation, target); round++) {
+					P y = tabu.search(f, x, neighborhood, rOperation, tabuSize, roundIteration, null);
+					R fy = f.apply(y);
+					elite.offer(y, fy);
+
+					if (rOperation.compare(fy, fx) < 0) {
+						// The round has improved the point: go on from it
+						x = y;
+						fx = fy;
+					}
+					else {
+						// The round has stagnated: restart from an elite point
+						P e = elite.pick(random);
+						x = e != null ? e : y;
+						fx = f.apply(x);
+					}
+				}
+				return null;
+			});
+		}
+
+		try {
+			for (Future<Void> future : pool.invokeAll(tasks))
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The cooperative search has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A worker of the cooperative search has failed.", e.getCause());
+		}
+
+		return elite.getBest();
+	}
+
+	@Contract(pure = true)
+	private static <R> boolean isReached(@NotNull final ElitePool<?, R> elite, @NotNull final NumberOperations<R> rOperation, @Nullable final R target) {
+		R best = elite.getBestFitness();
+		return target != null && best != null && rOperation.compare(best, target) <= 0;
+	}
+
+	//region GETTER & SETTER
+
+	@Contract(pure = true)
+	public int getPoolCapacity() {
+		return poolCapacity;
+	}
+
+	public void setPoolCapacity(int poolCapacity) {
+		if (poolCapacity <= 0)
+			throw new IllegalArgumentException("The capacity must be positive.");
+
+		this.poolCapacity = poolCapacity;
+	}
+
+	/**
+	 * @return Return the elite pool of the last search, or {@code null} if there was no search.
+	 */
+	@Nullable
+	@Contract(pure = true)
+	public ElitePool<P, R> getElitePool() {
+		return elitePool;
+	}
+
+	//endregion
+}
@@ -0,0 +1,168 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ISearch;
+import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.assignement.DeltaMatrix;
+import quadratix.combination.Permutation;
+
+import java.util.HashMap;
+import java.util.function.Function;
+
+/**
+ * Tabu search specialized for the quadratic assignment problem. The neighborhood is made of all the swaps of the
+ * current permutation, and their cost variations are kept in a {@link DeltaMatrix} across the iterations: one iteration
+ * costs O(n²) instead of O(n³) with {@link Tabu} and a delta function.
+ * <p>
+ * The tabu list has the same semantics than in {@link Tabu}: when a move does not improve the fitness, it is forbidden
+ * until {@code tabuSize} other moves have been forbidden.
+ * @see Tabu
+ * @see DeltaMatrix
+ */
+public class DeltaMatrixTabu implements ISearch<Permutation, Long> {
+
+	private final AssignmentEvaluator evaluator;
+	private int tabuSize;
+
+	/**
+	 * Optional termination policy, checked at each iteration.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+
+	public DeltaMatrixTabu(@NotNull AssignmentEvaluator evaluator, int tabuSize) {
+		this.evaluator = evaluator;
+		setTabuSize(tabuSize);
+	}
+	public DeltaMatrixTabu(@NotNull AssignmentEvaluator evaluator) {
+		this(evaluator, 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The neighborhood `V` is not used: all the swaps of the current point are explored.
+	 */
+	@Override
+	public Permutation search(@NotNull final Function<Permutation, Long> f, final Permutation x0, @NotNull final Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V, @NotNull final NumberOperations<Long> rOperation) {
+		return search(x0, getTabuSize(), Tabu.DEFAULT_MAX_ITERATION, null);
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param x0 The starting point.
+	 * @param tabuSize The fixed size of the tabu list. By default, the fixed size is 1.
+	 * @param maxIteration The maximum number of iterations the algorithm can do.
+	 * @param optima The optimum of the problem. If it is given, the algorithm will print when the optimum is found for
+	 *               the first time. Default value is {@code null}.
+	 * @return Return the optimal point if found.
+	 */
+	@NotNull
+	public Permutation search(@NotNull final Permutation x0, final int tabuSize, final int maxIteration, @Nullable Long optima) {
+		final int n = evaluator.getLength();
+		final long pairs = (long) n * (n - 1) / 2;
+		Termination<Long>.Monitor monitor = Termination.start(termination, Long::compare);
+		int firstIteration = -1;
+
+		Permutation x = x0.copy();
+		int[] p = x.array();
+		Permutation xmin = x0;
+		long fx = evaluator.cost(p);
+		long fmin = fx;
+
+		DeltaMatrix deltas = new DeltaMatrix(evaluator);
+		deltas.init(p);
+
+		// tabuStamp[i * n + j] is the number of moves forbidden when the swap (i, j) has been forbidden (0 if never).
+		int[] tabuStamp = new int[n * n];
+		int forbidden = 0;
+
+		int i = 0;
+		boolean moved;
+		do {
+			if (firstIteration == -1 && optima != null && fmin == optima) {
+				firstIteration = i;
+			}
+			if (monitor.isOver(i, i * pairs, fmin))
+				break;
+
+			/* Choose the allowed swap (r, s) s.t. delta(r, s) is minimal */
+			int r = -1, s = -1;
+			long best = Long.MAX_VALUE;
+			for (int a = 0; a < n - 1; a++) {
+				for (int b = a + 1; b < n; b++) {
+					int stamp = tabuStamp[a * n + b];
+					if (stamp != 0 && forbidden - stamp < tabuSize)
+						continue;
+
+					long d = deltas.get(a, b);
+					if (d < best) {
+						best = d;
+						r = a;
+						s = b;
+					}
+				}
+			}
+
+			moved = r != -1;
+			if (moved) {
+				if (best >= 0)
+					tabuStamp[r * n + s] = ++forbidden;
+
+				x.swap(r, s);
+				fx += best;
+				deltas.update(p, r, s);
+
+				if (fx < fmin) {
+					fmin = fx;
+					xmin = x.copy();
+				}
+
+				i++;
+			}
+		} while (i < maxIteration && moved);
+
+		if (firstIteration != -1) {
+			System.out.println("Optima BFK reached at iteration " + firstIteration);
+		} else if (optima != null) {
+			System.out.println("Optima BFK not reached");
+		}
+
+		return xmin;
+	}
+
+	//region GETTER & SETTER
+
+	@Contract(pure = true)
+	public int getTabuSize() {
+		return tabuSize;
+	}
+
+	public void setTabuSize(int tabuSize) {
+		if (tabuSize < 0)
+			throw new IllegalArgumentException("The size cannot be negative.");
+
+		this.tabuSize = tabuSize;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+
+	//endregion
+}
@@ -0,0 +1,171 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of the best points found by concurrent searches. It is lock-free: the incumbent and each slot of the
+ * pool are only updated with compare-and-set, so the threads never block each other. When the pool is full, a new point
+ * replaces the worst one if it is better.
+ * <p>
+ * The points are shared between the threads, so they must not be modified after they are offered.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
+ * @see CooperativeTabu
+ */
+public class ElitePool<P, R> {
+
+	@NotNull
+	private final Comparator<R> comparator;
+	@NotNull
+	private final AtomicReferenceArray<Elite<P, R>> slots;
+	@NotNull
+	private final AtomicReference<Elite<P, R>> incumbent = new AtomicReference<>();
+
+	/**
+	 * Constructor.
+	 * @param capacity The maximum number of points in the pool.
+	 * @param comparator Compare the fitness of the points. The lower, the better.
+	 */
+	public ElitePool(int capacity, @NotNull Comparator<R> comparator) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("The capacity must be positive.");
+
+		this.comparator = comparator;
+		this.slots = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Offer a point to the pool.
+	 * @param x The point. It must not be modified afterwards.
+	 * @param fx The fitness of `x`.
+	 * @return Return {@code true} if `x` is the new incumbent.
+	 */
+	public boolean offer(@NotNull final P x, @NotNull final R fx) {
+		Elite<P, R> elite = new Elite<>(x, fx);
+		boolean improved = updateIncumbent(elite);
+
+		while (true) {
+			/* Find an empty slot, or the worst one */
+			int worst = -1;
+			Elite<P, R> worstElite = null;
+			for (int k = 0; k < slots.length(); k++) {
+				Elite<P, R> e = slots.get(k);
+				if (e == null) {
+					worst = k;
+					worstElite = null;
+					break;
+				}
+				if (e.fitness.equals(fx) && e.x.equals(x))
+					return improved;
+				if (worstElite == null || comparator.compare(e.fitness, worstElite.fitness) > 0) {
+					worst = k;
+					worstElite = e;
+				}
+			}
+
+			if (worstElite != null && comparator.compare(fx, worstElite.fitness) >= 0)
+				return improved;
+			// If another thread changed the slot in the meantime, start again
+			if (slots.compareAndSet(worst, worstElite, elite))
+				return improved;
+		}
+	}
+
+	private boolean updateIncumbent(@NotNull final Elite<P, R> elite) {
+		while (true) {
+			Elite<P, R> current = incumbent.get();
+			if (current != null && comparator.compare(elite.fitness, current.fitness) >= 0)
+				return false;
+			if (incumbent.compareAndSet(current, elite))
+				return true;
+		}
+	}
+
+	/**
+	 * Pick a point of the pool uniformly.
+	 * @param random The random number generator.
+	 * @return Return a point of the pool, or {@code null} if the pool is empty.
+	 */
+	@Nullable
+	public P pick(@NotNull final Random random) {
+		// The points fill the first empty slot and are never removed, so the filled slots are a prefix of the pool
+		int size = 0;
+		while (size < slots.length() && slots.get(size) != null)
+			size++;
+		if (size == 0)
+			return null;
+
+		return slots.get(random.nextInt(size)).x;
+	}
+
+	/**
+	 * @return Return the best point offered so far, or {@code null} if no point has been offered.
+	 */
+	@Nullable
+	@Contract(pure = true)
+	public P getBest() {
+		Elite<P, R> e = incumbent.get();
+		return e != null ? e.x : null;
+	}
+
+	/**
+	 * @return Return the fitness of the best point offered so far, or {@code null} if no point has been offered.
+	 */
+	@Nullable
+	@Contract(pure = true)
+	public R getBestFitness() {
+		Elite<P, R> e = incumbent.get();
+		return e != null ? e.fitness : null;
+	}
+
+	/**
+	 * @return Return the number of points in the pool.
+	 */
+	@Contract(pure = true)
+	public int size() {
+		int size = 0;
+		for (int k = 0; k < slots.length(); k++)
+			if (slots.get(k) != null)
+				size++;
+		return size;
+	}
+
+	@Contract(pure = true)
+	public int getCapacity() {
+		return slots.length();
+	}
+
+	/**
+	 * An immutable point with its fitness.
+	 */
+	private static class Elite<P, R> {
+		@NotNull
+		private final P x;
+		@NotNull
+		private final R fitness;
+
+		private Elite(@NotNull P x, @NotNull R fitness) {
+			this.x = x;
+			this.fitness = fitness;
+		}
+
+		@Override
+		public String toString() {
+			return "f(" + x + ") = " + fitness;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ElitePool{best=" + Objects.toString(incumbent.get()) + ", size=" + size() + "}";
+	}
+}
@@ -0,0 +1,249 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.BatchEvaluator;
+import quadratix.ElementaryFunction;
+import quadratix.ILongSearch;
+import quadratix.LongDeltaFunction;
+import quadratix.Termination;
+import quadratix.neighborhood.MoveNeighborhood;
+import quadratix.stats.Counter;
+
+import java.util.ArrayList;
+import java.util.function.ToLongFunction;
+
+/**
+ * Tabu search on a {@code long} fitness. It runs the same steps as
+ * {@link Tabu#search(java.util.function.Function, Object, MoveNeighborhood, quadratix.NumberOperations, int, int, Object)},
+ * but the fitness values stay primitives: the neighbors are scored and compared without any boxing.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @see Tabu
+ */
+public class LongTabu<P> implements ILongSearch<P> {
+	
+	private Counter fitnessCall;
+	private int tabuSize;
+	private int maxIteration;
+	
+	/**
+	 * Optional function that computes the fitness variation of a move. If it is given, the neighbors are scored with
+	 * it instead of the fitness function.
+	 */
+	@Nullable
+	private LongDeltaFunction<P> delta;
+	
+	/**
+	 * Optional evaluator of the whole neighborhood. If it is given, the moves of each iteration are scored with one
+	 * call, instead of one by one.
+	 */
+	@Nullable
+	private BatchEvaluator<P> batch;
+	
+	/**
+	 * Optional termination policy, checked at each iteration. The best fitness is only boxed if it is set.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+	
+	public LongTabu(int tabuSize, int maxIteration) {
+		fitnessCall = new Counter();
+		setTabuSize(tabuSize);
+		setMaxIteration(maxIteration);
+	}
+	public LongTabu(int tabuSize) {
+		this(tabuSize, Tabu.DEFAULT_MAX_ITERATION);
+	}
+	public LongTabu() {
+		this(1);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * A move is tabu if an equal move is in the tabu list.
+	 */
+	@Override
+	public P search(@NotNull final ToLongFunction<P> f, final P x0, @NotNull final MoveNeighborhood<P> N) {
+		fitnessCall.reset();
+		TabuList<P, P> T = new TabuList<>(tabuSize);
+		Termination<Long>.Monitor monitor = termination != null ? termination.start(Long::compare) : null;
+		
+		P xmin = x0;
+		// Current point
+		P x = x0;
+		long fmin = f.applyAsLong(xmin);
+		// Fitness of the current point x
+		long fx = fmin;
+		fitnessCall.increment();
+		int i = 0;
+		ElementaryFunction<P> m;
+		ArrayList<ElementaryFunction<P>> moves = new ArrayList<>();
+		long[] fitness = new long[0];
+		
+		do {
+			if (monitor != null && monitor.isOver(i, fitnessCall.get(), fmin))
+				break;
+			
+			/* Choose the move m, not in T, s.t. f(m(xi)) is minimal */
+			m = null;
+			long fy = 0;
+			final int size = N.size(x);
+			if (batch != null) {
+				// Only the moves that are not tabu are scored, as in the loop below
+				moves.clear();
+				for (int k = 0; k < size; k++) {
+					ElementaryFunction<P> mk = N.get(x, k);
+					if (!T.contains(mk))
+						moves.add(mk);
+				}
+				if (fitness.length < moves.size())
+					fitness = new long[moves.size()];
+				batch.evaluate(x, fx, moves, 0, moves.size(), fitness);
+				fitnessCall.increment(moves.size());
+				
+				for (int k = 0; k < moves.size(); k++) {
+					if (m == null || fitness[k] < fy) {
+						m = moves.get(k);
+						fy = fitness[k];
+					}
+				}
+			} else {
+				for (int k = 0; k < size; k++) {
+					ElementaryFunction<P> mk = N.get(x, k);
+					if (T.contains(mk))
+						continue;
+					
+					long fz = evaluate(f, x, fx, mk);
+					if (m == null || fz < fy) {
+						m = mk;
+						fy = fz;
+					}
+				}
+			}
+			
+			if (m != null) {
+				// Only the chosen neighbor is built
+				P y = m.apply(x);
+				
+				if (fy >= fx) {
+					// Put m^-1 in T
+					T.add(m.invert());
+				}
+				if (fy < fmin) {
+					fmin = fy;
+					xmin = y;
+				}
+				
+				// xi becomes y
+				x = y;
+				fx = fy;
+				
+				// Increment the number of iteration
+				i++;
+			}
+		} while (i < maxIteration && m != null);
+		
+		return xmin;
+	}
+	
+	/**
+	 * Compute the fitness of {@code m(x)}, through the delta function if possible. The neighbor is only built if the
+	 * delta function is not set or does not support `m`.
+	 * @param f The fitness function.
+	 * @param x The current point.
+	 * @param fx The fitness of `x`.
+	 * @param m The move to evaluate.
+	 * @return Return {@code f(m(x))}.
+	 */
+	private long evaluate(@NotNull final ToLongFunction<P> f, final P x, final long fx, @NotNull final ElementaryFunction<P> m) {
+		fitnessCall.increment();
+		if (delta != null) {
+			long d = delta.delta(x, m);
+			if (d != LongDeltaFunction.UNSUPPORTED)
+				return fx + d;
+		}
+		return f.applyAsLong(m.apply(x));
+	}
+	
+	//region GETTER & SETTER
+	
+	@Contract(pure = true)
+	public int getFitnessCall() {
+		return fitnessCall.get();
+	}
+	
+	@Contract(pure = true)
+	public int getTabuSize() {
+		return tabuSize;
+	}
+	
+	public void setTabuSize(int tabuSize) {
+		if (tabuSize < 0)
+			throw new IllegalArgumentException("The size cannot be negative.");
+		
+		this.tabuSize = tabuSize;
+	}
+	
+	@Contract(pure = true)
+	public int getMaxIteration() {
+		return maxIteration;
+	}
+	
+	public void setMaxIteration(int maxIteration) {
+		if (maxIteration < 0)
+			throw new IllegalArgumentException("The number of iterations cannot be negative.");
+		
+		this.maxIteration = maxIteration;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	public LongDeltaFunction<P> getDelta() {
+		return delta;
+	}
+	
+	/**
+	 * Set the function that computes the fitness variation of a move, in order to avoid evaluating every neighbor from
+	 * scratch.
+	 * @param delta The delta function. If {@code null}, the fitness function is used.
+	 */
+	public void setDelta(@Nullable LongDeltaFunction<P> delta) {
+		this.delta = delta;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	public BatchEvaluator<P> getBatchEvaluator() {
+		return batch;
+	}
+	
+	/**
+	 * Set the evaluator of the neighborhoods. The fitness function and the delta function of the search are not used
+	 * anymore to score the moves. The moves that are not tabu are scored and counted in {@link #getFitnessCall()} as
+	 * without it, so both searches run the same steps.
+	 * @param batch The evaluator. If {@code null}, the moves are scored one by one.
+	 * @see quadratix.ParallelBatchEvaluator
+	 */
+	public void setBatchEvaluator(@Nullable BatchEvaluator<P> batch) {
+		this.batch = batch;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+	
+	//endregion
+}
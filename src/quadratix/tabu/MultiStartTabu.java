@@ -0,0 +1,250 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.NumberOperations;
+import quadratix.neighborhood.MoveNeighborhood;
+import quadratix.stats.RandomProvider;
+import quadratix.stats.SplitRandom;
+import quadratix.stats.Stopwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Run several tabu searches from different starting points in parallel, and keep the best result. Each start is run by
+ * its own {@link Tabu} instance, with its own random number generator: the generators are derived from a single seed,
+ * so a run can be reproduced whatever the number of threads.
+ * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
+ *           ...).
+ * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
+ * @see Tabu
+ */
+public class MultiStartTabu<P, R> {
+
+	@NotNull
+	private final Supplier<Tabu<P, R>> tabuFactory;
+	@NotNull
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructor.
+	 * @param tabuFactory Create a new tabu search for each start. It must not share mutable state between the instances.
+	 * @param pool The pool that runs the starts.
+	 */
+	public MultiStartTabu(@NotNull Supplier<Tabu<P, R>> tabuFactory, @NotNull ForkJoinPool pool) {
+		this.tabuFactory = tabuFactory;
+		this.pool = pool;
+	}
+	/**
+	 * Constructor. The starts are run in the common pool, that uses all the cores.
+	 * @param tabuFactory Create a new tabu search for each start. It must not share mutable state between the instances.
+	 */
+	public MultiStartTabu(@NotNull Supplier<Tabu<P, R>> tabuFactory) {
+		this(tabuFactory, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Run a tabu search from each of the given starting points.
+	 * @param f The fitness function. It is called concurrently.
+	 * @param starts The starting points.
+	 * @param N The neighborhood. Each start uses {@link MoveNeighborhood#withRandom(Random)} with its own generator.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param tabuSize The fixed size of the tabu lists.
+	 * @param maxIteration The maximum number of iterations of each search.
+	 * @param seed The seed from which the generators of the starts are derived.
+	 * @return Return the best point found, and the statistics of each start.
+	 */
+	@NotNull
+	public Result<P, R> search(@NotNull final Function<P, R> f, @NotNull final List<P> starts, @NotNull final MoveNeighborhood<P> N, @NotNull final NumberOperations<R> rOperation, final int tabuSize, final int maxIteration, final long seed) {
+		return search(f, starts.size(), (k, random) -> starts.get(k), N, rOperation, tabuSize, maxIteration, seed);
+	}
+
+	/**
+	 * Run a tabu search from `count` starting points generated randomly.
+	 * @param f The fitness function. It is called concurrently.
+	 * @param count The number of starts.
+	 * @param generator Generate a starting point from the generator of the start.
+	 * @param N The neighborhood. Each start uses {@link MoveNeighborhood#withRandom(Random)} with its own generator.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param tabuSize The fixed size of the tabu lists.
+	 * @param maxIteration The maximum number of iterations of each search.
+	 * @param seed The seed from which the generators of the starts are derived.
+	 * @return Return the best point found, and the statistics of each start.
+	 */
+	@NotNull
+	public Result<P, R> search(@NotNull final Function<P, R> f, final int count, @NotNull final Function<Random, P> generator, @NotNull final MoveNeighborhood<P> N, @NotNull final NumberOperations<R> rOperation, final int tabuSize, final int maxIteration, final long seed) {
+		return search(f, count, (k, random) -> generator.apply(random), N, rOperation, tabuSize, maxIteration, seed);
+	}
+
+	@NotNull
+	private Result<P, R> search(@NotNull final Function<P, R> f, final int count, @NotNull final StartGenerator<P> generator, @NotNull final MoveNeighborhood<P> N, @NotNull final NumberOperations<R> rOperation, final int tabuSize, final int maxIteration, final long seed) {
+		// The generators are split before the tasks are submitted, so they do not depend on the scheduling
+		SplitRandom master = RandomProvider.of(seed);
+		List<Callable<Start<P, R>>> tasks = new ArrayList<>(count);
+		for (int k = 0; k < count; k++) {
+			final int index = k;
+			final Random random = master.split();
+			tasks.add(() -> {
+				Tabu<P, R> tabu = tabuFactory.get();
+				P x0 = generator.generate(index, random);
+
+				Stopwatch stopwatch = new Stopwatch(true);
+				P x = tabu.search(f, x0, N.withRandom(random), rOperation, tabuSize, maxIteration, null);
+				stopwatch.stop();
+
+				return new Start<>(x, new Statistics<>(index, f.apply(x0), f.apply(x), tabu.getFitnessCall(), stopwatch.elapsedMs()));
+			});
+		}
+
+		P best = null;
+		R bestFitness = null;
+		List<Statistics<R>> statistics = new ArrayList<>(count);
+		try {
+			for (Future<Start<P, R>> future : pool.invokeAll(tasks)) {
+				Start<P, R> start = future.get();
+				statistics.add(start.statistics);
+				if (best == null || rOperation.compare(start.statistics.getFitness(), bestFitness) < 0) {
+					best = start.x;
+					bestFitness = start.statistics.getFitness();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The multi-start search has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A start of the multi-start search has failed.", e.getCause());
+		}
+
+		return new Result<>(best, bestFitness, statistics);
+	}
+
+	@FunctionalInterface
+	private interface StartGenerator<P> {
+		P generate(int index, @NotNull Random random);
+	}
+
+	private static class Start<P, R> {
+		private final P x;
+		private final Statistics<R> statistics;
+
+		private Start(P x, Statistics<R> statistics) {
+			this.x = x;
+			this.statistics = statistics;
+		}
+	}
+
+	/**
+	 * The result of a multi-start search.
+	 * @param <P> The type of the points.
+	 * @param <R> The type of the fitness.
+	 */
+	public static class Result<P, R> {
+
+		@Nullable
+		private final P best;
+		@Nullable
+		private final R bestFitness;
+		@NotNull
+		private final List<Statistics<R>> statistics;
+
+		private Result(@Nullable P best, @Nullable R bestFitness, @NotNull List<Statistics<R>> statistics) {
+			this.best = best;
+			this.bestFitness = bestFitness;
+			this.statistics = Collections.unmodifiableList(statistics);
+		}
+
+		/**
+		 * @return Return the best point found by all the starts, or {@code null} if there was no start.
+		 */
+		@Nullable
+		@Contract(pure = true)
+		public P getBest() {
+			return best;
+		}
+
+		@Nullable
+		@Contract(pure = true)
+		public R getBestFitness() {
+			return bestFitness;
+		}
+
+		/**
+		 * @return Return the statistics of each start, in the order of the starts.
+		 */
+		@NotNull
+		@Contract(pure = true)
+		public List<Statistics<R>> getStatistics() {
+			return statistics;
+		}
+	}
+
+	/**
+	 * The statistics of one start.
+	 * @param <R> The type of the fitness.
+	 */
+	public static class Statistics<R> {
+
+		private final int index;
+		private final R initialFitness;
+		private final R fitness;
+		private final int fitnessCall;
+		private final long elapsedMs;
+
+		private Statistics(int index, R initialFitness, R fitness, int fitnessCall, long elapsedMs) {
+			this.index = index;
+			this.initialFitness = initialFitness;
+			this.fitness = fitness;
+			this.fitnessCall = fitnessCall;
+			this.elapsedMs = elapsedMs;
+		}
+
+		/**
+		 * @return Return the index of the start.
+		 */
+		@Contract(pure = true)
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return Return the fitness of the starting point.
+		 */
+		@Contract(pure = true)
+		public R getInitialFitness() {
+			return initialFitness;
+		}
+
+		/**
+		 * @return Return the fitness of the best point found from this start.
+		 */
+		@Contract(pure = true)
+		public R getFitness() {
+			return fitness;
+		}
+
+		@Contract(pure = true)
+		public int getFitnessCall() {
+			return fitnessCall;
+		}
+
+		@Contract(pure = true)
+		public long getElapsedMs() {
+			return elapsedMs;
+		}
+
+		@Override
+		public String toString() {
+			return "Start#" + index + ": " + initialFitness + " -> " + fitness + " (" + fitnessCall + " fitness calls, " + elapsedMs + " ms)";
+		}
+	}
+}
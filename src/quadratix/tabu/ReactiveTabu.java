@@ -0,0 +1,307 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ISearch;
+import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.assignement.DeltaMatrix;
+import quadratix.combination.Permutation;
+import quadratix.stats.RandomProvider;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Reactive tabu search (Battiti &amp; Tecchiolli, 1994) for the quadratic assignment problem. The tenure is not a
+ * parameter anymore: it is adapted during the search.
+ * <ul>
+ *     <li>Every visited permutation is recorded by its {@link Permutation#hash64() Zobrist hash}, which is updated in
+ *     O(1) by each swap. When a permutation is visited again, the tenure grows.</li>
+ *     <li>When no permutation has been visited again for a while, the tenure shrinks.</li>
+ *     <li>When too many permutations have been visited again and again (a chaotic attractor), the search escapes with a
+ *     random walk, and the record is cleared.</li>
+ * </ul>
+ * The moves are chosen as in {@link AttributeTabu}, with aspiration. Apart from the move evaluation, an iteration costs
+ * O(1).
+ * @see AttributeTabu
+ * @see TabuMatrix
+ */
+public class ReactiveTabu implements ISearch<Permutation, Long> {
+
+	/**
+	 * The tenure is multiplied by this factor when a permutation is visited again.
+	 */
+	public static final double INCREASE = 1.1;
+
+	/**
+	 * The tenure is multiplied by this factor when no permutation has been visited again for a while.
+	 */
+	public static final double DECREASE = 0.9;
+
+	/**
+	 * A permutation visited more than this number of times is part of a chaotic attractor.
+	 */
+	public static final int REPETITIONS = 3;
+
+	/**
+	 * The search escapes when more than this number of permutations are part of a chaotic attractor.
+	 */
+	public static final int CHAOS = 3;
+
+	private final AssignmentEvaluator evaluator;
+	@NotNull
+	private Random random = RandomProvider.split();
+
+	/**
+	 * The number of escapes during the last search.
+	 */
+	private int escapes;
+
+	/**
+	 * Optional termination policy, checked at each iteration.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+
+	public ReactiveTabu(@NotNull AssignmentEvaluator evaluator) {
+		this.evaluator = evaluator;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The neighborhood `V` is not used: all the swaps of the current point are explored.
+	 */
+	@Override
+	public Permutation search(@NotNull final Function<Permutation, Long> f, final Permutation x0, @NotNull final Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V, @NotNull final NumberOperations<Long> rOperation) {
+		return search(x0, Tabu.DEFAULT_MAX_ITERATION, null);
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param x0 The starting point.
+	 * @param maxIteration The maximum number of iterations the algorithm can do.
+	 * @param optima The optimum of the problem. If it is given, the algorithm will print when the optimum is found for
+	 *               the first time. Default value is {@code null}.
+	 * @return Return the optimal point if found.
+	 */
+	@NotNull
+	public Permutation search(@NotNull final Permutation x0, final int maxIteration, @Nullable Long optima) {
+		final int n = evaluator.getLength();
+		final long pairs = (long) n * (n - 1) / 2;
+		Termination<Long>.Monitor monitor = Termination.start(termination, Long::compare);
+		final int maxTenure = Math.max(1, n - 2);
+		int firstIteration = -1;
+		escapes = 0;
+
+		Permutation x = x0.copy();
+		int[] p = x.array();
+		Permutation xmin = x0;
+		long fx = evaluator.cost(p);
+		long fmin = fx;
+
+		DeltaMatrix deltas = new DeltaMatrix(evaluator);
+		deltas.init(p);
+		TabuMatrix memory = new TabuMatrix(n);
+
+		Visits visits = new Visits();
+		double tenure = 1;
+		int lastChange = 0;
+		double averageCycle = 0;
+		int chaotic = 0;
+
+		int i = 0;
+		while (i < maxIteration && n > 1) {
+			if (firstIteration == -1 && optima != null && fmin == optima) {
+				firstIteration = i;
+			}
+			if (monitor.isOver(i, i * pairs, fmin))
+				break;
+
+			/* React to the visit of x */
+			int slot = visits.visit(x.hash64());
+			if (visits.count[slot] > 1) {
+				if (visits.count[slot] > REPETITIONS && ++chaotic > CHAOS) {
+					/* Escape with a random walk */
+					chaotic = 0;
+					visits.clear();
+					escapes++;
+					int steps = 1 + (int) ((1 + averageCycle) / 2);
+					for (int k = 0; k < steps && i < maxIteration; k++, i++) {
+						int r = random.nextInt(n), s = random.nextInt(n - 1);
+						if (s >= r)
+							s++;
+						memory.forbid(p, r, s, i + (int) tenure, i + (int) tenure);
+						fx += deltas.get(r, s);
+						x.swap(r, s);
+						deltas.update(p, r, s);
+						if (fx < fmin) {
+							fmin = fx;
+							xmin = x.copy();
+						}
+					}
+					continue;
+				}
+
+				int cycle = i - visits.last[slot];
+				if (cycle < 2 * (n - 1)) {
+					averageCycle = 0.1 * cycle + 0.9 * averageCycle;
+					tenure = Math.min(tenure * INCREASE + 1, maxTenure);
+					lastChange = i;
+				}
+			}
+			visits.last[slot] = i;
+
+			if (i - lastChange > averageCycle) {
+				tenure = Math.max(tenure * DECREASE, 1);
+				lastChange = i;
+			}
+
+			/* Choose the allowed swap (r, s) s.t. delta(r, s) is minimal, and the best tabu one as a fallback */
+			int r = -1, s = -1, tabuR = -1, tabuS = -1;
+			long best = Long.MAX_VALUE, bestTabu = Long.MAX_VALUE;
+			for (int a = 0; a < n - 1; a++) {
+				for (int b = a + 1; b < n; b++) {
+					long d = deltas.get(a, b);
+					boolean allowed = !memory.isTabu(p, a, b, i) || fx + d < fmin;
+					if (allowed && d < best) {
+						best = d;
+						r = a;
+						s = b;
+					}
+					else if (!allowed && d < bestTabu) {
+						bestTabu = d;
+						tabuR = a;
+						tabuS = b;
+					}
+				}
+			}
+			if (r == -1) {
+				best = bestTabu;
+				r = tabuR;
+				s = tabuS;
+			}
+
+			memory.forbid(p, r, s, i + (int) tenure, i + (int) tenure);
+			x.swap(r, s);
+			fx += best;
+			deltas.update(p, r, s);
+
+			if (fx < fmin) {
+				fmin = fx;
+				xmin = x.copy();
+			}
+
+			i++;
+		}
+
+		if (firstIteration != -1) {
+			System.out.println("Optima BFK reached at iteration " + firstIteration);
+		} else if (optima != null) {
+			System.out.println("Optima BFK not reached");
+		}
+
+		return xmin;
+	}
+
+	//region GETTER & SETTER
+
+	/**
+	 * @return Return the number of random walks done by the last search to escape a chaotic attractor.
+	 */
+	@Contract(pure = true)
+	public int getEscapes() {
+		return escapes;
+	}
+
+	@NotNull
+	@Contract(pure = true)
+	public Random getRandom() {
+		return random;
+	}
+
+	public void setRandom(@NotNull Random random) {
+		this.random = random;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+
+	//endregion
+
+	/**
+	 * Open-addressing hash table that maps the hash of a permutation to its last visit and its number of visits.
+	 */
+	private static class Visits {
+
+		private long[] hashes = new long[1024];
+		private int[] last = new int[1024];
+		private int[] count = new int[1024];
+		private int size;
+
+		/**
+		 * Record a visit of the permutation.
+		 * @param hash The hash of the permutation.
+		 * @return Return the slot of the permutation. {@code count[slot]} is the number of visits, including this one,
+		 * and {@code last[slot]} is the iteration of the previous visit.
+		 */
+		int visit(long hash) {
+			if (2 * (size + 1) > hashes.length)
+				grow();
+
+			int slot = find(hashes, count, hash);
+			if (count[slot] == 0) {
+				hashes[slot] = hash;
+				size++;
+			}
+			count[slot]++;
+			return slot;
+		}
+
+		void clear() {
+			Arrays.fill(count, 0);
+			size = 0;
+		}
+
+		private void grow() {
+			long[] oldHashes = hashes;
+			int[] oldLast = last, oldCount = count;
+			hashes = new long[2 * oldHashes.length];
+			last = new int[2 * oldHashes.length];
+			count = new int[2 * oldHashes.length];
+			for (int k = 0; k < oldHashes.length; k++) {
+				if (oldCount[k] != 0) {
+					int slot = find(hashes, count, oldHashes[k]);
+					hashes[slot] = oldHashes[k];
+					last[slot] = oldLast[k];
+					count[slot] = oldCount[k];
+				}
+			}
+		}
+
+		private static int find(long[] hashes, int[] count, long hash) {
+			int mask = hashes.length - 1;
+			int slot = (int) (hash ^ (hash >>> 32)) & mask;
+			while (count[slot] != 0 && hashes[slot] != hash)
+				slot = (slot + 1) & mask;
+			return slot;
+		}
+	}
+}
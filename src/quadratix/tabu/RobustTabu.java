@@ -0,0 +1,231 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import quadratix.ElementaryFunction;
+import quadratix.ISearch;
+import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.assignement.DeltaMatrix;
+import quadratix.combination.Permutation;
+import quadratix.stats.RandomProvider;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Robust tabu search (Taillard, 1991) for the quadratic assignment problem. It uses the same attribute-based memory as
+ * {@link AttributeTabu}, with three differences:
+ * <ul>
+ *     <li>The tenure of each forbidden assignment is drawn uniformly in {@code [minTenure, maxTenure]}.</li>
+ *     <li>A swap is aspired if it improves the best fitness found so far.</li>
+ *     <li>A swap is also aspired if it assigns a facility to a location where it has not been for
+ *     `aspirationThreshold` iterations. This forces the search to visit new regions (long-term diversification).</li>
+ * </ul>
+ * At each iteration, the first aspired swap is chosen if there is one (the best one among several swaps aspired at
+ * once), otherwise the best allowed swap. If all swaps are tabu, the best one is applied anyway.
+ * <p>
+ * By default, the tenure is drawn in {@code [0.9n, 1.1n]} and the aspiration threshold is {@code 5n²}, as suggested by
+ * Taillard.
+ * @see TabuMatrix
+ * @see AttributeTabu
+ */
+public class RobustTabu implements ISearch<Permutation, Long> {
+
+	private final AssignmentEvaluator evaluator;
+	private int minTenure;
+	private int maxTenure;
+	private int aspirationThreshold;
+	@NotNull
+	private Random random = RandomProvider.split();
+
+	/**
+	 * Optional termination policy, checked at each iteration.
+	 */
+	@Nullable
+	private Termination<Long> termination;
+
+	public RobustTabu(@NotNull AssignmentEvaluator evaluator, int minTenure, int maxTenure, int aspirationThreshold) {
+		this.evaluator = evaluator;
+		setTenure(minTenure, maxTenure);
+		setAspirationThreshold(aspirationThreshold);
+	}
+	public RobustTabu(@NotNull AssignmentEvaluator evaluator) {
+		this(evaluator,
+				(int) Math.floor(0.9 * evaluator.getLength()),
+				(int) Math.ceil(1.1 * evaluator.getLength()),
+				5 * evaluator.getLength() * evaluator.getLength());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The neighborhood `V` is not used: all the swaps of the current point are explored.
+	 */
+	@Override
+	public Permutation search(@NotNull final Function<Permutation, Long> f, final Permutation x0, @NotNull final Function<Permutation, HashMap<Permutation, ElementaryFunction<Permutation>>> V, @NotNull final NumberOperations<Long> rOperation) {
+		return search(x0, Tabu.DEFAULT_MAX_ITERATION, null);
+	}
+
+	/**
+	 * Search the optimal point in a space of solutions.
+	 * @param x0 The starting point.
+	 * @param maxIteration The maximum number of iterations the algorithm can do.
+	 * @param optima The optimum of the problem. If it is given, the algorithm will print when the optimum is found for
+	 *               the first time, and stop. Default value is {@code null}.
+	 * @return Return the optimal point if found.
+	 */
+	@NotNull
+	public Permutation search(@NotNull final Permutation x0, final int maxIteration, @Nullable Long optima) {
+		final int n = evaluator.getLength();
+		final long pairs = (long) n * (n - 1) / 2;
+		Termination<Long>.Monitor monitor = Termination.start(termination, Long::compare);
+		int firstIteration = -1;
+
+		Permutation x = x0.copy();
+		int[] p = x.array();
+		Permutation xmin = x0;
+		long fx = evaluator.cost(p);
+		long fmin = fx;
+
+		DeltaMatrix deltas = new DeltaMatrix(evaluator);
+		deltas.init(p);
+		TabuMatrix memory = new TabuMatrix(n);
+
+		int i = 0;
+		while (i < maxIteration && n > 1) {
+			if (optima != null && fmin <= optima) {
+				firstIteration = i;
+				break;
+			}
+			if (monitor.isOver(i, i * pairs, fmin))
+				break;
+
+			/* Choose the swap (r, s) */
+			int r = -1, s = -1;
+			long best = Long.MAX_VALUE;
+			boolean alreadyAspired = false;
+			int tabuR = -1, tabuS = -1;
+			long bestTabu = Long.MAX_VALUE;
+			final int oldest = i - getAspirationThreshold();
+			for (int a = 0; a < n - 1; a++) {
+				for (int b = a + 1; b < n; b++) {
+					long d = deltas.get(a, b);
+					boolean aspired = fx + d < fmin ||
+							memory.get(p[b], a) < oldest ||
+							memory.get(p[a], b) < oldest;
+
+					if ((aspired && (!alreadyAspired || d < best)) ||
+							(!aspired && !alreadyAspired && d < best && !memory.isTabu(p, a, b, i))) {
+						best = d;
+						r = a;
+						s = b;
+						alreadyAspired |= aspired;
+					}
+					else if (d < bestTabu) {
+						bestTabu = d;
+						tabuR = a;
+						tabuS = b;
+					}
+				}
+			}
+			if (r == -1) {
+				best = bestTabu;
+				r = tabuR;
+				s = tabuS;
+			}
+
+			memory.forbid(p, r, s, i + drawTenure(), i + drawTenure());
+			x.swap(r, s);
+			fx += best;
+			deltas.update(p, r, s);
+
+			if (fx < fmin) {
+				fmin = fx;
+				xmin = x.copy();
+			}
+
+			i++;
+		}
+
+		if (firstIteration != -1) {
+			System.out.println("Optima BFK reached at iteration " + firstIteration);
+		} else if (optima != null) {
+			System.out.println("Optima BFK not reached");
+		}
+
+		return xmin;
+	}
+
+	private int drawTenure() {
+		return getMinTenure() + random.nextInt(getMaxTenure() - getMinTenure() + 1);
+	}
+
+	//region GETTER & SETTER
+
+	@Contract(pure = true)
+	public int getMinTenure() {
+		return minTenure;
+	}
+
+	@Contract(pure = true)
+	public int getMaxTenure() {
+		return maxTenure;
+	}
+
+	/**
+	 * Set the range of the tenure.
+	 * @param minTenure The minimum number of iterations during which a facility cannot go back to a location.
+	 * @param maxTenure The maximum number of iterations during which a facility cannot go back to a location.
+	 */
+	public void setTenure(int minTenure, int maxTenure) {
+		if (minTenure < 0)
+			throw new IllegalArgumentException("The tenure cannot be negative.");
+		if (maxTenure < minTenure)
+			throw new IllegalArgumentException("The maximum tenure cannot be less than the minimum tenure.");
+
+		this.minTenure = minTenure;
+		this.maxTenure = maxTenure;
+	}
+
+	@Contract(pure = true)
+	public int getAspirationThreshold() {
+		return aspirationThreshold;
+	}
+
+	public void setAspirationThreshold(int aspirationThreshold) {
+		if (aspirationThreshold < 0)
+			throw new IllegalArgumentException("The aspiration threshold cannot be negative.");
+
+		this.aspirationThreshold = aspirationThreshold;
+	}
+
+	@NotNull
+	@Contract(pure = true)
+	public Random getRandom() {
+		return random;
+	}
+
+	public void setRandom(@NotNull Random random) {
+		this.random = random;
+	}
+
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<Long> getTermination() {
+		return termination;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<Long> termination) {
+		this.termination = termination;
+	}
+
+	//endregion
+}
@@ -3,14 +3,17 @@ package quadratix.tabu;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import quadratix.DeltaFunction;
 import quadratix.ElementaryFunction;
 import quadratix.ISearch;
 import quadratix.NumberOperations;
+import quadratix.Termination;
+import quadratix.neighborhood.MoveNeighborhood;
 import quadratix.stats.Counter;
+import quadratix.stats.TrajectoryRecorder;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Vector;
 import java.util.function.Function;
 
 /**
@@ -29,6 +32,25 @@ public class Tabu<P, R> implements ISearch<P, R> {
 	private Counter fitnessCall;
 	private int tabuSize;
 	
+	/**
+	 * Optional function that computes the fitness variation of a move. If it is given, the neighbors are scored with
+	 * it instead of the fitness function.
+	 */
+	@Nullable
+	private DeltaFunction<P, R> delta;
+	
+	/**
+	 * Optional recorder of the visited points. The search itself only keeps the current point and the best one.
+	 */
+	@Nullable
+	private TrajectoryRecorder<P, R> recorder;
+	
+	/**
+	 * Optional termination policy, checked at each iteration.
+	 */
+	@Nullable
+	private Termination<R> termination;
+	
 	public Tabu(int tabuSize) {
 		fitnessCall = new Counter();
 		setTabuSize(tabuSize);
@@ -86,58 +108,55 @@ public class Tabu<P, R> implements ISearch<P, R> {
 		int firstIteration = -1;
 		fitnessCall.reset();
 		TabuList<P, P> T = new TabuList<>(tabuSize);
+		Termination<R>.Monitor monitor = Termination.start(termination, rOperation);
 		
 		/**
 		 * Elementary neighborhood
 		 */
 		HashSet<P> C = new HashSet<>();
 		P xmin = x0;
-		Vector<P> x = new Vector<>();
-		x.add(x0);
+		// Current point
+		P x = x0;
 		R fmin = f.apply(xmin);
+		// Fitness of the current point x
+		R fx = fmin;
 		fitnessCall.increment();
 		int i = 0;
+		record(i, x, fx);
 		
 		do {
 			if (firstIteration == -1 && optima != null && rOperation.compare(fmin, optima) == 0) {
 				firstIteration = i;
 			}
+			if (monitor.isOver(i, fitnessCall.get(), fmin))
+				break;
 
-			HashMap<P, ElementaryFunction<P>> elemFuns = V.apply(x.get(i));
+			HashMap<P, ElementaryFunction<P>> elemFuns = V.apply(x);
 			C.clear();
 			C.addAll(elemFuns.keySet());
 			// At this point, C = V(xi).
 			// Now, {m(xi) | m∈T} must be removed from it.
 			for (Function<P, P> m : T)
-				C.remove(m.apply(x.get(i)));
+				C.remove(m.apply(x));
 
 			if (!C.isEmpty()) {
 				/* Choose y in C s.t. f(y) = min({f(z) | z∈C}) */
-				
-				// Take the first element in C
-				P y = C.iterator().next();
-				
-				// The default `m` is identity
-				ElementaryFunction<P> m = elemFuns.get(y)/*getOrDefault(y, ElementaryFunction.identity())*/;
-				
-				// Store the value of f(y) in order to minimize fitness call.
-				R fy = f.apply(y);
-				fitnessCall.increment();
+				P y = null;
+				ElementaryFunction<P> m = null;
+				R fy = null;
 				
 				for (P z : C) {
-					fitnessCall.increment();
-					if (rOperation.compare(f.apply(z), fy) < 0) {
+					ElementaryFunction<P> mz = elemFuns.get(z);
+					R fz = evaluate(f, rOperation, x, fx, z, mz);
+					if (y == null || rOperation.compare(fz, fy) < 0) {
 						y = z;
-						// Recompute f(y) as `y` changed
-						fy = f.apply(y);
-						fitnessCall.increment();
-						m = elemFuns.get(y);
+						fy = fz;
+						m = mz;
 					}
 				}
 				
 				// Compute the fitness variation
-				R deltaF = rOperation.minus(fy, f.apply(x.get(i)));
-				fitnessCall.increment();
+				R deltaF = rOperation.minus(fy, fx);
 				
 				if (rOperation.compare(deltaF, rOperation.getZero()) >= 0) {
 					// Put m^-1 in T
@@ -150,10 +169,12 @@ public class Tabu<P, R> implements ISearch<P, R> {
 				}
 				
 				// xi becomes y
-				x.add(y);
+				x = y;
+				fx = fy;
 				
 				// Increment the number of iteration
 				i++;
+				record(i, x, fx);
 			}
 		} while (i < maxIteration && !C.isEmpty());
 		
@@ -165,6 +186,141 @@ public class Tabu<P, R> implements ISearch<P, R> {
 		
 		return xmin;
 	}
+	
+	/**
+	 * Search the optimal point in a space of solutions, where the neighborhood is given as lazy moves. The moves are
+	 * scored without building the neighbors (through the delta function if it is set), and only the chosen neighbor is
+	 * built. A move is tabu if an equal move is in the tabu list.
+	 * @param f The fitness function.
+	 * @param x0 The starting point.
+	 * @param N The neighborhood, that gives the moves from a point.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param tabuSize The fixed size of the tabu list. By default, the fixed size is 1.
+	 * @param maxIteration The maximum number of iterations the algorithm can do.
+	 * @param optima The optimum of the problem. If it is given, the algorithm will print when the optimum is found for
+	 *               the first time. Default value is {@code null}.
+	 * @return Return the optimal point if found.
+	 * @see MoveNeighborhood
+	 */
+	public P search(@NotNull final Function<P, R> f, final P x0, @NotNull final MoveNeighborhood<P> N, @NotNull final NumberOperations<R> rOperation, final int tabuSize, final int maxIteration, @Nullable R optima) {
+		int firstIteration = -1;
+		fitnessCall.reset();
+		TabuList<P, P> T = new TabuList<>(tabuSize);
+		Termination<R>.Monitor monitor = Termination.start(termination, rOperation);
+		
+		P xmin = x0;
+		// Current point
+		P x = x0;
+		R fmin = f.apply(xmin);
+		// Fitness of the current point x
+		R fx = fmin;
+		fitnessCall.increment();
+		int i = 0;
+		record(i, x, fx);
+		ElementaryFunction<P> m;
+		
+		do {
+			if (firstIteration == -1 && optima != null && rOperation.compare(fmin, optima) == 0) {
+				firstIteration = i;
+			}
+			if (monitor.isOver(i, fitnessCall.get(), fmin))
+				break;
+			
+			/* Choose the move m, not in T, s.t. f(m(xi)) is minimal */
+			m = null;
+			R fy = null;
+			final int size = N.size(x);
+			for (int k = 0; k < size; k++) {
+				ElementaryFunction<P> mk = N.get(x, k);
+				if (T.contains(mk))
+					continue;
+				
+				R fz = evaluate(f, rOperation, x, fx, mk);
+				if (m == null || rOperation.compare(fz, fy) < 0) {
+					m = mk;
+					fy = fz;
+				}
+			}
+			
+			if (m != null) {
+				// Only the chosen neighbor is built
+				P y = m.apply(x);
+				
+				// Compute the fitness variation
+				R deltaF = rOperation.minus(fy, fx);
+				
+				if (rOperation.compare(deltaF, rOperation.getZero()) >= 0) {
+					// Put m^-1 in T
+					T.add(m.invert());
+				}
+				if (rOperation.compare(fy, fmin) < 0) {
+					fmin = fy;
+					xmin = y;
+				}
+				
+				// xi becomes y
+				x = y;
+				fx = fy;
+				
+				// Increment the number of iteration
+				i++;
+				record(i, x, fx);
+			}
+		} while (i < maxIteration && m != null);
+		
+		if (firstIteration != -1) {
+			System.out.println("Optima BFK reached at iteration " + firstIteration);
+		} else if (optima != null) {
+			System.out.println("Optima BFK not reached");
+		}
+		
+		return xmin;
+	}
+
+	private void record(int iteration, P x, R fx) {
+		if (recorder != null)
+			recorder.record(iteration, x, fx);
+	}
+	
+	/**
+	 * Compute the fitness of the neighbor `z` of `x`, through the delta function if possible.
+	 * @param f The fitness function.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param x The current point.
+	 * @param fx The fitness of `x`.
+	 * @param z The neighbor to evaluate.
+	 * @param m The elementary function that maps `x` to `z`. Can be {@code null}.
+	 * @return Return {@code f(z)}.
+	 */
+	private R evaluate(@NotNull final Function<P, R> f, @NotNull final NumberOperations<R> rOperation, final P x, final R fx, final P z, @Nullable final ElementaryFunction<P> m) {
+		fitnessCall.increment();
+		if (delta != null && m != null) {
+			R d = delta.delta(x, m);
+			if (d != null)
+				return rOperation.plus(fx, d);
+		}
+		return f.apply(z);
+	}
+	
+	/**
+	 * Compute the fitness of {@code m(x)}, through the delta function if possible. The neighbor is only built if the
+	 * delta function is not set or does not support `m`.
+	 * @param f The fitness function.
+	 * @param rOperation The operations we can apply on `R`.
+	 * @param x The current point.
+	 * @param fx The fitness of `x`.
+	 * @param m The move to evaluate.
+	 * @return Return {@code f(m(x))}.
+	 */
+	private R evaluate(@NotNull final Function<P, R> f, @NotNull final NumberOperations<R> rOperation, final P x, final R fx, @NotNull final ElementaryFunction<P> m) {
+		fitnessCall.increment();
+		if (delta != null) {
+			R d = delta.delta(x, m);
+			if (d != null)
+				return rOperation.plus(fx, d);
+		}
+		return f.apply(m.apply(x));
+	}
 
 	//region GETTER & SETTER
 	
@@ -185,5 +341,50 @@ public class Tabu<P, R> implements ISearch<P, R> {
 		this.tabuSize = tabuSize;
 	}
 	
+	@Nullable
+	@Contract(pure = true)
+	public DeltaFunction<P, R> getDelta() {
+		return delta;
+	}
+	
+	/**
+	 * Set the function that computes the fitness variation of a move, in order to avoid evaluating every neighbor from
+	 * scratch.
+	 * @param delta The delta function. If {@code null}, the fitness function is used.
+	 */
+	public void setDelta(@Nullable DeltaFunction<P, R> delta) {
+		this.delta = delta;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	public TrajectoryRecorder<P, R> getRecorder() {
+		return recorder;
+	}
+	
+	/**
+	 * Set the recorder of the visited points, for diagnostics.
+	 * @param recorder The recorder. If {@code null}, the trajectory is not recorded.
+	 * @see quadratix.stats.SampledTrajectoryRecorder
+	 */
+	public void setRecorder(@Nullable TrajectoryRecorder<P, R> recorder) {
+		this.recorder = recorder;
+	}
+	
+	@Nullable
+	@Contract(pure = true)
+	@Override
+	public Termination<R> getTermination() {
+		return termination;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setTermination(@Nullable Termination<R> termination) {
+		this.termination = termination;
+	}
+	
 	//endregion
 }
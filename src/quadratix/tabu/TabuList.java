@@ -4,45 +4,80 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Function;
 
 /**
- * Class that inherits from
- * {@code ArrayList<Function<P, R>>}. It is a list with a fixed size, defined when it is constructed: When the list is
- * at full capacity, and a new element is added, it will overwrite the first element. The elements listed are only
- * functions (through the interface `Function`). Be careful not to get confuse between {@link #size()} which is the
- * actual size of the list (exactly like in {@link java.util.List}), and {@link #getFixedSize()},which is the fixed
- * length of the list. {@link #size()} ≤ {@link #getFixedSize()}.
+ * Class that represents a list of {@code Function<P, R>}. It is a list with a fixed size, defined when it is
+ * constructed: When the list is at full capacity, and a new element is added, it will overwrite the first element. The
+ * elements listed are only functions (through the interface `Function`). Be careful not to get confuse between
+ * {@link #size()} which is the actual size of the list (exactly like in {@link java.util.List}), and
+ * {@link #getFixedSize()},which is the fixed length of the list. {@link #size()} ≤ {@link #getFixedSize()}.
+ * <p>
+ * The elements are stored in a circular buffer: adding an element and evicting the first one are both O(1), whatever
+ * the fixed size is. The buffer grows with the number of elements, so a large fixed size costs nothing until it is
+ * used. The elements are also counted in a hash table, so {@link #contains(Object)} is O(1) as well.
  * @param <P> Denotes the parameter type of the fitness function, that can be any elements (bits, combination, number,
  *           ...).
  * @param <R> represents the return type of the fitness function. It is often a number (integer or real).
  */
-public class TabuList<P, R> extends ArrayList<Function<P, R>> implements Serializable, Cloneable, Iterable<Function<P, R>> {
+public class TabuList<P, R> extends AbstractList<Function<P, R>> implements RandomAccess, Serializable, Cloneable, Iterable<Function<P, R>> {
+	
+	/**
+	 * The initial capacity of the buffer, if the fixed size is greater.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
 	
 	/**
 	 * The fixed size of the list. Can be changed dynamically.
 	 */
 	private int fixedSize;
 	
+	/**
+	 * The circular buffer. Its length is at least {@link #size}, and can be greater than {@link #fixedSize}.
+	 */
+	@NotNull
+	private Object[] buffer;
+	
+	/**
+	 * The index of the first element in {@link #buffer}.
+	 */
+	private int head;
+	
+	/**
+	 * The number of elements.
+	 */
+	private int size;
+	
+	/**
+	 * The number of occurrences of each element of the list.
+	 */
+	@NotNull
+	private final HashMap<Object, Integer> occurrences = new HashMap<>();
+	
 	/**
 	 * Construct a tabu list.
 	 * @param fixedSize The fixed size of the list.
 	 */
 	public TabuList(final int fixedSize) {
-		super(fixedSize);
+		buffer = new Object[Math.max(0, Math.min(fixedSize, INITIAL_CAPACITY))];
 		setFixedSize(fixedSize);
 	}
 	
 	/**
 	 * Construct a tabu list. The fixed size of the list is equal to the size of the given collection.
-	 * {@inheritDoc}
+	 * @param c The collection whose elements are to be placed into this list.
 	 */
 	public TabuList(@NotNull Collection<? extends Function<P, R>> c) {
-		super(c);
+		buffer = c.toArray();
+		size = buffer.length;
+		for (Object x : buffer)
+			count(x);
 		setFixedSize(c.size());
 	}
 	
@@ -64,17 +99,82 @@ public class TabuList<P, R> extends ArrayList<Function<P, R>> implements Seriali
 	 * Appends the specified function to the end of this list. If the list is at maximum capacity (`size` ==
 	 * `fixedSize`), then the element overwrite the first one.
 	 * @param x function to be appended to this list.
-	 * @return <tt>true</tt> (as specified by {@link Collection#add}).
+	 * @return <tt>true</tt> (as specified by {@link Collection#add}), or <tt>false</tt> if the fixed size is 0.
 	 */
 	@Override
 	public boolean add(@NotNull Function<P, R> x) {
-		if (size() == getFixedSize()) {
-			// Remove the first element, and shift everything
-			remove(0);
-			return super.add(x);
+		if (getFixedSize() == 0)
+			return false;
+		
+		modCount++;
+		if (size == getFixedSize()) {
+			// Overwrite the first element: the second one becomes the first one
+			uncount(buffer[head]);
+			buffer[head] = null;
+			head = index(1);
+			buffer[index(size - 1)] = x;
+		}
+		else {
+			if (size == buffer.length)
+				resize(Math.min(getFixedSize(), Math.max(INITIAL_CAPACITY, 2 * buffer.length)));
+			buffer[index(size)] = x;
+			size++;
 		}
-		else
-			return super.add(x);
+		count(x);
+		return true;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Function<P, R> get(int index) {
+		checkIndex(index);
+		return (Function<P, R>) buffer[index(index)];
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Function<P, R> set(int index, @NotNull Function<P, R> x) {
+		checkIndex(index);
+		Function<P, R> previous = (Function<P, R>) buffer[index(index)];
+		buffer[index(index)] = x;
+		uncount(previous);
+		count(x);
+		return previous;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Function<P, R> remove(int index) {
+		checkIndex(index);
+		modCount++;
+		Function<P, R> removed = (Function<P, R>) buffer[index(index)];
+		for (int i = index; i < size - 1; i++)
+			buffer[index(i)] = buffer[index(i + 1)];
+		buffer[index(size - 1)] = null;
+		size--;
+		uncount(removed);
+		return removed;
+	}
+	
+	@Override
+	public void clear() {
+		modCount++;
+		for (int i = 0; i < size; i++)
+			buffer[index(i)] = null;
+		occurrences.clear();
+		head = 0;
+		size = 0;
+	}
+	
+	@Override
+	@Contract(pure = true)
+	public boolean contains(Object o) {
+		return occurrences.containsKey(o);
+	}
+	
+	@Override
+	public int size() {
+		return size;
 	}
 	
 	@NotNull
@@ -93,13 +193,57 @@ public class TabuList<P, R> extends ArrayList<Function<P, R>> implements Seriali
 		return fixedSize;
 	}
 	
+	/**
+	 * Change the fixed size of the list. If the list contains more elements than the new fixed size, the last ones are
+	 * removed. Only the removed elements are visited: the others are neither moved nor copied.
+	 * @param fixedSize The new fixed size.
+	 */
 	public void setFixedSize(int fixedSize) {
 		this.fixedSize = fixedSize;
 		
 		// If the size if greater than the new fixed size, remove all elements from index fixed size.
-		if (size() > getFixedSize())
-			for (int i = getFixedSize(); i < size();)
-				remove(i);
+		if (size() > getFixedSize()) {
+			modCount++;
+			for (int i = Math.max(0, getFixedSize()); i < size; i++) {
+				uncount(buffer[index(i)]);
+				buffer[index(i)] = null;
+			}
+			size = Math.max(0, getFixedSize());
+		}
+	}
+	
+	/**
+	 * @param i The index of an element in the list.
+	 * @return Return the index of the element in {@link #buffer}.
+	 */
+	private int index(int i) {
+		int index = head + i;
+		return index < buffer.length ? index : index - buffer.length;
+	}
+	
+	/**
+	 * Copy the elements in a new buffer, where the first element is at index 0.
+	 * @param capacity The length of the new buffer.
+	 */
+	private void resize(int capacity) {
+		Object[] newBuffer = new Object[capacity];
+		for (int i = 0; i < size; i++)
+			newBuffer[i] = buffer[index(i)];
+		buffer = newBuffer;
+		head = 0;
+	}
+	
+	private void count(Object x) {
+		occurrences.merge(x, 1, Integer::sum);
+	}
+	
+	private void uncount(Object x) {
+		occurrences.computeIfPresent(x, (key, n) -> n == 1 ? null : n - 1);
+	}
+	
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
 	}
 	
 	/* OVERRIDE */
@@ -119,6 +263,15 @@ public class TabuList<P, R> extends ArrayList<Function<P, R>> implements Seriali
 		return Objects.hash(super.hashCode(), getFixedSize());
 	}
 	
+	@NotNull
+	@Override
+	@SuppressWarnings("MethodDoesntCallSuperMethod")
+	public TabuList<P, R> clone() {
+		TabuList<P, R> clone = new TabuList<>(getFixedSize());
+		clone.addAll(this);
+		return clone;
+	}
+	
 	@Override
 	public String toString() {
 		return super.toString();
@@ -0,0 +1,80 @@
+package quadratix.tabu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Attribute-based tabu memory for permutation problems. For each pair (facility, location), it stores the iteration
+ * until which the facility is forbidden to go back to the location. Checking and recording a swap is O(1) and does not
+ * allocate anything.
+ * <p>
+ * A permutation `p` assigns the facility {@code p[i]} to the location `i`. As in Taillard's robust tabu search, the
+ * swap `(r, s)` is tabu if <b>both</b> facilities would go back to a forbidden location.
+ */
+public class TabuMatrix {
+
+	private final int n;
+
+	/**
+	 * {@code until[facility * n + location]} is the last iteration where `facility` cannot be assigned to `location`.
+	 */
+	@NotNull
+	private final int[] until;
+
+	public TabuMatrix(int n) {
+		this.n = n;
+		this.until = new int[n * n];
+		clear();
+	}
+
+	/**
+	 * @param p The permutation, before the swap.
+	 * @param r Index of the first element of the swap.
+	 * @param s Index of the second element of the swap.
+	 * @param iteration The current iteration.
+	 * @return Return {@code true} if the swap `(r, s)` is forbidden at the given iteration.
+	 */
+	@Contract(pure = true)
+	public boolean isTabu(@NotNull final int[] p, final int r, final int s, final int iteration) {
+		return until[p[s] * n + r] >= iteration && until[p[r] * n + s] >= iteration;
+	}
+
+	/**
+	 * Forbid the facilities {@code p[r]} and {@code p[s]} to go back to their current location. It must be called
+	 * before the swap `(r, s)` is applied on `p`.
+	 * @param p The permutation, before the swap.
+	 * @param r Index of the first element of the swap.
+	 * @param s Index of the second element of the swap.
+	 * @param untilR The last iteration where {@code p[r]} cannot go back to `r`.
+	 * @param untilS The last iteration where {@code p[s]} cannot go back to `s`.
+	 */
+	public void forbid(@NotNull final int[] p, final int r, final int s, final int untilR, final int untilS) {
+		until[p[r] * n + r] = untilR;
+		until[p[s] * n + s] = untilS;
+	}
+
+	/**
+	 * @param facility The facility.
+	 * @param location The location.
+	 * @return Return the last iteration where `facility` cannot be assigned to `location`, or a negative number if it
+	 * has never been forbidden.
+	 */
+	@Contract(pure = true)
+	public int get(final int facility, final int location) {
+		return until[facility * n + location];
+	}
+
+	/**
+	 * Remove all the forbidden assignments.
+	 */
+	public void clear() {
+		Arrays.fill(until, -1);
+	}
+
+	@Contract(pure = true)
+	public int getLength() {
+		return n;
+	}
+}
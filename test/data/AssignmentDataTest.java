@@ -1,8 +1,13 @@
 package data;
 
+import javafx.util.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignmentEvaluator;
 import quadratix.data.AssignmentData;
+import quadratix.data.AssignmentDataException;
+
+import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,4 +25,94 @@ class AssignmentDataTest {
         System.out.println(assignementData.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void denseMatrices() {
+        HashMap<Pair<Long, Long>, Long> weights = new HashMap<>();
+        HashMap<Pair<Long, Long>, Long> distances = new HashMap<>();
+        for (long i = 1; i <= 3; i++) {
+            for (long j = 1; j <= 3; j++) {
+                weights.put(new Pair<>(i, j), 10 * i + j);
+                distances.put(new Pair<>(i, j), 100 * i + j);
+            }
+        }
+
+        assignementData = new AssignmentData(3, weights, distances);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertEquals(weights.get(new Pair<>((long) i + 1, (long) j + 1)), assignementData.getWeight(i, j));
+                assertEquals(distances.get(new Pair<>((long) i + 1, (long) j + 1)), assignementData.getDistance(i, j));
+                assertEquals(assignementData.getWeight(i, j), assignementData.getWeightMatrix()[i * 3 + j]);
+            }
+        }
+    }
+
+    @Test
+    public void contentHash() {
+        HashMap<Pair<Long, Long>, Long> weights = new HashMap<>();
+        HashMap<Pair<Long, Long>, Long> distances = new HashMap<>();
+        for (long i = 1; i <= 3; i++) {
+            for (long j = 1; j <= 3; j++) {
+                weights.put(new Pair<>(i, j), 10 * i + j);
+                distances.put(new Pair<>(i, j), 100 * i + j);
+            }
+        }
+
+        long hash = new AssignmentData(3, weights, distances).contentHash();
+        assertEquals(hash, new AssignmentData(3, weights, distances).contentHash());
+
+        // The weights and the distances are not interchangeable
+        assertNotEquals(hash, new AssignmentData(3, distances, weights).contentHash());
+
+        weights.put(new Pair<>(2L, 3L), 0L);
+        assertNotEquals(hash, new AssignmentData(3, weights, distances).contentHash());
+    }
+
+    @Test
+    public void checkCostRange() {
+        HashMap<Pair<Long, Long>, Long> weights = new HashMap<>();
+        HashMap<Pair<Long, Long>, Long> distances = new HashMap<>();
+        for (long i = 1; i <= 3; i++) {
+            for (long j = 1; j <= 3; j++) {
+                weights.put(new Pair<>(i, j), 1_000_000L);
+                distances.put(new Pair<>(i, j), 1_000_000L);
+            }
+        }
+
+        // The costs exceed the range of an int, but not the range of a long
+        assignementData = new AssignmentData(3, weights, distances);
+        assertEquals(16 * 9 * 1_000_000L * 1_000_000L, assignementData.checkCostRange());
+        assertEquals(9 * 1_000_000L * 1_000_000L, new AssignmentEvaluator(assignementData).cost(new int[] {0, 1, 2}));
+
+        weights.put(new Pair<>(2L, 3L), 1L << 40);
+        distances.put(new Pair<>(3L, 1L), 1L << 40);
+        AssignmentData overflowing = new AssignmentData(3, weights, distances);
+        assertThrows(AssignmentDataException.class, overflowing::checkCostRange);
+        assertThrows(AssignmentDataException.class, () -> new AssignmentEvaluator(overflowing));
+    }
+
+    @Test
+    public void mapsAreCopied() {
+        HashMap<Pair<Long, Long>, Long> weights = new HashMap<>();
+        HashMap<Pair<Long, Long>, Long> distances = new HashMap<>();
+        weights.put(new Pair<>(1L, 2L), 3L);
+        distances.put(new Pair<>(1L, 2L), 4L);
+        assignementData = new AssignmentData(2, weights, distances);
+
+        // Modifying the maps does not leave the matrices stale
+        assignementData.getWeights().put(new Pair<>(1L, 2L), 30L);
+        assignementData.getDistances().put(new Pair<>(2L, 1L), 40L);
+        assertEquals(3L, (long) assignementData.getWeights().get(new Pair<>(1L, 2L)));
+        assertFalse(assignementData.getDistances().containsKey(new Pair<>(2L, 1L)));
+        assertEquals(0, assignementData.getDistance(1, 0));
+
+        assignementData.setWeights(weights);
+        weights.put(new Pair<>(1L, 2L), 300L);
+        assertEquals(3, assignementData.getWeight(0, 1));
+        assertEquals(3L, (long) assignementData.getWeights().get(new Pair<>(1L, 2L)));
+
+        assignementData.addWeight(new Pair<>(2L, 1L), 5L);
+        assertEquals(5, assignementData.getWeight(1, 0));
+        assertEquals(5L, (long) assignementData.getWeights().get(new Pair<>(2L, 1L)));
+    }
+
+}
@@ -0,0 +1,49 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.tabu.AttributeTabu;
+import quadratix.tabu.TabuMatrix;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttributeTabuTest {
+	
+	private static final int LENGTH = 7;
+	
+	@Test
+	void tabuMatrix() {
+		TabuMatrix memory = new TabuMatrix(4);
+		int[] p = {2, 0, 3, 1};
+		assertFalse(memory.isTabu(p, 0, 1, 0));
+		
+		// Swap (0, 1) at iteration 0 for 2 iterations: 2 cannot go back to 0, and 0 cannot go back to 1
+		memory.forbid(p, 0, 1, 2, 2);
+		assertEquals(2, memory.get(2, 0));
+		assertEquals(2, memory.get(0, 1));
+		p = new int[] {0, 2, 3, 1};
+		
+		assertTrue(memory.isTabu(p, 0, 1, 1));
+		assertTrue(memory.isTabu(p, 0, 1, 2));
+		assertFalse(memory.isTabu(p, 0, 1, 3));
+		// Only one of the facilities goes back to a forbidden location
+		assertFalse(memory.isTabu(p, 1, 2, 1));
+		
+		memory.clear();
+		assertFalse(memory.isTabu(p, 0, 1, 1));
+	}
+	
+	@Test
+	void search() {
+		AssignmentEvaluator evaluator = SearchTestUtil.randomInstance(LENGTH, false, 11);
+		long optimum = SearchTestUtil.bruteForce(evaluator, LENGTH);
+		
+		AttributeTabu tabu = new AttributeTabu(evaluator);
+		Permutation c = tabu.search(Permutation.generateRandom(LENGTH), 3, 100 * LENGTH, null);
+		System.out.println("Result: f(" + c + ") = " + evaluator.cost(c) + ", optimum = " + optimum);
+		
+		assertEquals(LENGTH, c.size());
+		assertEquals(optimum, evaluator.cost(c));
+	}
+}
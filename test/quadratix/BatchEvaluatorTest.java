@@ -0,0 +1,133 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swap;
+import quadratix.neighborhood.SwapNeighborhood;
+import quadratix.tabu.LongTabu;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEvaluatorTest {
+	
+	private static List<ElementaryFunction<Permutation>> moves(Permutation x) {
+		SwapNeighborhood<Permutation> N = new SwapNeighborhood<>();
+		List<ElementaryFunction<Permutation>> moves = new ArrayList<>();
+		for (int k = 0; k < N.size(x); k++)
+			moves.add(N.get(x, k));
+		return moves;
+	}
+	
+	@Test
+	void sequentialAndParallel() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai40.txt");
+		Permutation x = Permutation.generateRandom(evaluator.getLength(), new Random(2));
+		long fx = evaluator.cost(x);
+		List<ElementaryFunction<Permutation>> moves = moves(x);
+		
+		long[] expected = new long[moves.size()];
+		for (int k = 0; k < expected.length; k++)
+			expected[k] = evaluator.cost(moves.get(k).apply(x));
+		
+		long[] sequential = new long[moves.size()];
+		new SequentialBatchEvaluator<Permutation>(evaluator::cost, evaluator::longDelta).evaluate(x, fx, moves, sequential);
+		assertArrayEquals(expected, sequential);
+		
+		// Small chunks, so that the range is split many times
+		long[] parallel = new long[moves.size()];
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			new ParallelBatchEvaluator<Permutation>(evaluator::cost, evaluator::longDelta, pool, 7).evaluate(x, fx, moves, parallel);
+		} finally {
+			pool.shutdown();
+		}
+		assertArrayEquals(expected, parallel);
+		
+		// Without delta function, the neighbors are built
+		long[] full = new long[moves.size()];
+		new ParallelBatchEvaluator<Permutation>(evaluator::cost, null).evaluate(x, fx, moves, full);
+		assertArrayEquals(expected, full);
+	}
+	
+	@Test
+	void range() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		Permutation x = Permutation.identity(evaluator.getLength());
+		List<ElementaryFunction<Permutation>> moves = moves(x);
+		// The delta function does not support the moves at even indexes: they are evaluated with the fitness function
+		LongDeltaFunction<Permutation> delta = (p, m) -> ((Swap<Permutation>) m).getI() % 2 == 0 ? LongDeltaFunction.UNSUPPORTED : evaluator.longDelta(p, m);
+		
+		long[] fitness = new long[moves.size()];
+		new ParallelBatchEvaluator<Permutation>(evaluator::cost, delta, ForkJoinPool.commonPool(), 4).evaluate(x, evaluator.cost(x), moves, 10, 50, fitness);
+		for (int k = 0; k < fitness.length; k++)
+			assertEquals(10 <= k && k < 50 ? evaluator.cost(moves.get(k).apply(x)) : 0, fitness[k]);
+	}
+	
+	@Test
+	void longTabu() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		int n = evaluator.getLength();
+		Permutation x0 = Permutation.generateRandom(n, new Random(6));
+		
+		LongTabu<Permutation> tabu = new LongTabu<>(n, 20 * n);
+		tabu.setDelta(evaluator::longDelta);
+		Permutation expected = tabu.search(evaluator::cost, x0, new SwapNeighborhood<>());
+		int fitnessCall = tabu.getFitnessCall();
+		
+		// The batch search chooses the same moves, and scores as many of them
+		tabu.setBatchEvaluator(new ParallelBatchEvaluator<>(evaluator::cost, evaluator::longDelta, ForkJoinPool.commonPool(), 8));
+		assertEquals(expected, tabu.search(evaluator::cost, x0, new SwapNeighborhood<>()));
+		assertEquals(fitnessCall, tabu.getFitnessCall());
+	}
+	
+	@Test
+	void splitAcrossWorkers() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		Permutation x = Permutation.identity(evaluator.getLength());
+		long fx = evaluator.cost(x);
+		List<ElementaryFunction<Permutation>> moves = moves(x);
+		
+		Set<Thread> workers = ConcurrentHashMap.newKeySet();
+		CountDownLatch twoWorkers = new CountDownLatch(2);
+		LongDeltaFunction<Permutation> delta = (p, m) -> {
+			if (workers.add(Thread.currentThread()))
+				twoWorkers.countDown();
+			// Wait for a second worker, so that the first one cannot run all the chunks before the others start
+			try {
+				twoWorkers.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return evaluator.longDelta(p, m);
+		};
+		
+		long[] fitness = new long[moves.size()];
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			new ParallelBatchEvaluator<>(evaluator::cost, delta, pool, 4).evaluate(x, fx, moves, fitness);
+		} finally {
+			pool.shutdown();
+		}
+		
+		// The chunks have been run by several workers of the pool, not by the calling thread
+		assertTrue(workers.size() >= 2);
+		for (Thread worker : workers) {
+			assertTrue(worker instanceof ForkJoinWorkerThread);
+			assertSame(pool, ((ForkJoinWorkerThread) worker).getPool());
+		}
+		for (int k = 0; k < fitness.length; k++)
+			assertEquals(evaluator.cost(moves.get(k).apply(x)), fitness[k]);
+	}
+}
@@ -90,14 +90,15 @@ class CombinationTest {
 		assertEquals(1, c.size());
 		assertTrue(c.get(0) == 0 || c.get(0) == 1);
 		
-		Set<Combination> ci = new HashSet<>(100);
-		for (int i = 0; i < 100; i++) {
+		Set<Combination> ci = new HashSet<>(1000);
+		for (int i = 0; i < 1000; i++) {
 			c = Combination.generateRandom(4);
 			ci.add(c);
 			assertEquals(4, c.size());
 		}
 		System.out.println("Number of elements: " + ci.size());
 		ci.forEach(System.out::println);
-		assertEquals(12, ci.size());
+		// The generation is uniform, so all the 4! combinations are drawn
+		assertEquals(24, ci.size());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.tabu.DeltaMatrixTabu;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaMatrixTabuTest {
+	
+	private static final int LENGTH = 7;
+	
+	@Test
+	void search() {
+		AssignmentEvaluator evaluator = SearchTestUtil.randomInstance(LENGTH, true, 7);
+		long optimum = SearchTestUtil.bruteForce(evaluator, LENGTH);
+		
+		DeltaMatrixTabu tabu = new DeltaMatrixTabu(evaluator);
+		Permutation c = tabu.search(Permutation.generateRandom(LENGTH), LENGTH, 100 * LENGTH, null);
+		System.out.println("Result: f(" + c + ") = " + evaluator.cost(c) + ", optimum = " + optimum);
+		
+		assertEquals(LENGTH, c.size());
+		assertEquals(optimum, evaluator.cost(c));
+	}
+}
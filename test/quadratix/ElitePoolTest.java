@@ -0,0 +1,81 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.tabu.ElitePool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElitePoolTest {
+	
+	@Test
+	void offer() {
+		ElitePool<String, Integer> pool = new ElitePool<>(2, Integer::compare);
+		assertNull(pool.getBest());
+		assertNull(pool.pick(new Random()));
+		
+		assertTrue(pool.offer("a", 5));
+		assertFalse(pool.offer("b", 7));
+		assertEquals(2, pool.size());
+		
+		// The pool is full: "c" replaces the worst point, "b"
+		assertTrue(pool.offer("c", 3));
+		assertEquals(2, pool.size());
+		assertEquals("c", pool.getBest());
+		assertEquals(3, pool.getBestFitness());
+		
+		// "d" is worse than all the points of the pool
+		assertFalse(pool.offer("d", 9));
+		Random random = new Random(0);
+		for (int i = 0; i < 20; i++) {
+			String x = pool.pick(random);
+			assertTrue("a".equals(x) || "c".equals(x));
+		}
+	}
+	
+	@Test
+	void uniformPick() {
+		// A pool that is not full, as in the cooperative search with fewer workers than slots
+		ElitePool<Integer, Integer> pool = new ElitePool<>(10, Integer::compare);
+		for (int x = 0; x < 4; x++)
+			pool.offer(x, x);
+		
+		int[] counts = new int[4];
+		Random random = new Random(1);
+		final int picks = 40000;
+		for (int i = 0; i < picks; i++)
+			counts[pool.pick(random)]++;
+		for (int count : counts)
+			assertEquals(picks / 4., count, picks / 4. * 0.05);
+	}
+	
+	@Test
+	void concurrentOffers() throws InterruptedException {
+		final int threads = 8, offers = 10000;
+		ElitePool<Integer, Integer> pool = new ElitePool<>(5, Integer::compare);
+		
+		List<Thread> list = new ArrayList<>(threads);
+		for (int t = 0; t < threads; t++) {
+			final int offset = t;
+			Thread thread = new Thread(() -> {
+				for (int k = 0; k < offers; k++) {
+					int x = k * threads + offset;
+					pool.offer(x, x);
+				}
+			});
+			list.add(thread);
+			thread.start();
+		}
+		for (Thread thread : list)
+			thread.join();
+		
+		assertEquals(0, pool.getBest());
+		assertEquals(5, pool.size());
+		Random random = new Random(0);
+		for (int i = 0; i < 100; i++)
+			assertTrue(pool.pick(random) < 5);
+	}
+}
@@ -0,0 +1,122 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swap;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FitnessCacheTest {
+	
+	@Test
+	void hitsAndMisses() {
+		AtomicInteger calls = new AtomicInteger();
+		FitnessCache<Permutation, Long> cache = new FitnessCache<>(p -> {
+			calls.incrementAndGet();
+			return (long) p.get(0);
+		}, 100);
+		
+		Permutation p = new Permutation(new int[] {1, 0, 2});
+		assertEquals(1L, (long) cache.apply(p));
+		assertEquals(1L, (long) cache.apply(p.copy()));
+		// A neighbor built by a swap is a new key
+		assertEquals(0L, (long) cache.apply(new Swap<Permutation>(0, 1).apply(p)));
+		
+		assertEquals(2, calls.get());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(1. / 3, cache.getHitRate(), 1e-9);
+		assertEquals(2, cache.size());
+		
+		cache.clear();
+		assertEquals(0, cache.size());
+		cache.apply(p);
+		assertEquals(3, calls.get());
+		
+		cache.resetStatistics();
+		assertEquals(0, cache.getHits() + cache.getMisses());
+	}
+	
+	@Test
+	void clock() {
+		FitnessCache<Integer, Integer> cache = new FitnessCache<>(Function.identity(), 3, 1);
+		cache.apply(1);
+		cache.apply(2);
+		cache.apply(3);
+		
+		// 1 is referenced: it gets a second chance and 2 is evicted instead
+		cache.apply(1);
+		cache.apply(4);
+		assertEquals(1, cache.getEvictions());
+		assertEquals(3, cache.size());
+		
+		cache.resetStatistics();
+		cache.apply(1);
+		cache.apply(2);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+	
+	@Test
+	void bounded() {
+		FitnessCache<Permutation, Long> cache = new FitnessCache<>(p -> (long) p.hashCode(), 1000);
+		Random random = new Random(5);
+		for (int k = 0; k < 10_000; k++)
+			cache.apply(Permutation.generateRandom(12, random));
+		
+		assertTrue(cache.size() <= cache.getCapacity());
+		assertEquals(cache.getMisses() - cache.size(), cache.getEvictions());
+	}
+	
+	@Test
+	void stripes() {
+		int stripes = 16;
+		FitnessCache<Integer, Integer> cache = new FitnessCache<>(Function.identity(), 4096, stripes);
+		int[] counts = new int[stripes];
+		Set<Integer> buckets = new HashSet<>();
+		for (int k = 0; k < 4096; k++) {
+			int stripe = cache.stripeOf(k);
+			counts[stripe]++;
+			// The low bits of the hash code, from which HashMap selects its buckets
+			if (stripe == 0)
+				buckets.add((k ^ k >>> 16) & (stripes - 1));
+		}
+		
+		for (int count : counts)
+			assertTrue(count > 4096 / stripes / 2);
+		// The points of a stripe do not share the low bits of their hash codes
+		assertEquals(stripes, buckets.size());
+		assertEquals(0, new FitnessCache<>(Function.identity(), 10, 1).stripeOf(7));
+	}
+	
+	@Test
+	void concurrent() {
+		AtomicInteger calls = new AtomicInteger();
+		FitnessCache<Permutation, Long> cache = new FitnessCache<>(p -> {
+			calls.incrementAndGet();
+			return (long) p.get(0) * 100 + p.get(1);
+		}, 10_000);
+		Random random = new Random(9);
+		List<Permutation> points = IntStream.range(0, 200)
+				.mapToObj(k -> Permutation.generateRandom(8, random))
+				.collect(Collectors.toList());
+		
+		IntStream.range(0, 100_000).parallel().forEach(k -> {
+			Permutation p = points.get(k % points.size());
+			assertEquals(p.get(0) * 100L + p.get(1), (long) cache.apply(p));
+		});
+		
+		assertEquals(100_000, cache.getHits() + cache.getMisses());
+		assertEquals(calls.get(), cache.getMisses());
+		assertTrue(cache.size() <= points.size());
+	}
+}
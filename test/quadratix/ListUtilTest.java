@@ -0,0 +1,77 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListUtilTest {
+	
+	@Test
+	void pickRandomly() {
+		List<Integer> list = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+		Random random = new Random(3);
+		int[] counts = new int[10];
+		for (int i = 0; i < 10000; i++) {
+			counts[ListUtil.pickRandomly(new ArrayList<>(list), random)]++;
+			assertTrue(list.contains(ListUtil.pickRandomly(new LinkedList<>(list), random)));
+			assertTrue(list.contains(ListUtil.pickRandomly(new HashSet<>(list), random)));
+		}
+		for (int count : counts)
+			assertTrue(850 < count && count < 1150);
+		
+		// The same draw is done whether the collection is a random-access list or not
+		assertEquals(ListUtil.pickRandomly(new ArrayList<>(list), new Random(4)), ListUtil.pickRandomly(new LinkedList<>(list), new Random(4)));
+		
+		assertThrows(IllegalArgumentException.class, () -> ListUtil.pickRandomly(new ArrayList<>()));
+	}
+	
+	@Test
+	void sampleIndexes() {
+		Random random = new Random(3);
+		int[] counts = new int[10];
+		for (int i = 0; i < 10000; i++) {
+			int[] indexes = ListUtil.sampleIndexes(10, 3, random);
+			assertEquals(3, indexes.length);
+			assertEquals(3, Arrays.stream(indexes).distinct().count());
+			for (int index : indexes)
+				counts[index]++;
+		}
+		// Each index is picked with a probability of 3/10
+		for (int count : counts)
+			assertTrue(2800 < count && count < 3200);
+		
+		assertEquals(5, ListUtil.sampleIndexes(5, 8, random).length);
+		assertEquals(0, ListUtil.sampleIndexes(5, 0, random).length);
+	}
+	
+	@Test
+	void sample() {
+		List<Integer> list = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+		Random random = new Random(3);
+		int[] counts = new int[100];
+		for (int i = 0; i < 10000; i++) {
+			List<Integer> sample = ListUtil.sample(list, 5, random);
+			assertEquals(5, sample.size());
+			assertEquals(5, new HashSet<>(sample).size());
+			for (int item : sample)
+				counts[item]++;
+		}
+		// Each item is picked with a probability of 5/100
+		for (int count : counts)
+			assertTrue(350 < count && count < 650);
+		
+		Set<Integer> all = new HashSet<>(ListUtil.sample(list.subList(0, 3), 5, random));
+		assertEquals(new HashSet<>(list.subList(0, 3)), all);
+		assertTrue(ListUtil.sample(list, 0, random).isEmpty());
+	}
+}
@@ -0,0 +1,63 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.neighborhood.SwapNeighborhood;
+import quadratix.tabu.LongTabu;
+import quadratix.tabu.Tabu;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongTabuTest {
+	
+	private static final int LENGTH = 12;
+	
+	@Test
+	void searchLikeTabu() {
+		AssignmentEvaluator evaluator = SearchTestUtil.randomInstance(LENGTH, true, 12);
+		SwapNeighborhood<Permutation> N = new SwapNeighborhood<>();
+		Permutation x0 = Permutation.generateRandom(LENGTH, new Random(3));
+		
+		Tabu<Permutation, Long> tabu = new Tabu<>();
+		tabu.setDelta(evaluator::delta);
+		Permutation expected = tabu.search(evaluator::cost, x0, N, NumberOperations.getLongOperations(), LENGTH, 10 * LENGTH, null);
+		
+		LongTabu<Permutation> longTabu = new LongTabu<>(LENGTH, 10 * LENGTH);
+		longTabu.setDelta(evaluator::longDelta);
+		Permutation c = longTabu.search(evaluator::cost, x0, N);
+		System.out.println("Result: f(" + c + ") = " + evaluator.cost(c));
+		
+		// Both searches run the same steps
+		assertEquals(expected, c);
+		assertEquals(tabu.getFitnessCall(), longTabu.getFitnessCall());
+	}
+	
+	@Test
+	void adapters() {
+		AssignmentEvaluator evaluator = SearchTestUtil.randomInstance(LENGTH, true, 5);
+		SwapNeighborhood<Permutation> N = new SwapNeighborhood<>();
+		Permutation x0 = Permutation.generateRandom(LENGTH, new Random(8));
+		
+		LongTabu<Permutation> direct = new LongTabu<>(LENGTH, 5 * LENGTH);
+		direct.setDelta(evaluator::longDelta);
+		LongTabu<Permutation> adapted = new LongTabu<>(LENGTH, 5 * LENGTH);
+		adapted.setDelta(LongDeltaFunction.of(evaluator::delta));
+		
+		Permutation c = adapted.search(ILongSearch.fitness(p -> (int) evaluator.cost(p)), x0, N);
+		assertEquals(direct.search(evaluator::cost, x0, N), c);
+	}
+	
+	@Test
+	void termination() {
+		AssignmentEvaluator evaluator = SearchTestUtil.randomInstance(LENGTH, true, 12);
+		LongTabu<Permutation> tabu = new LongTabu<>(LENGTH, 10 * LENGTH);
+		tabu.setTermination(new Termination<>(Termination.UNLIMITED, 10, null, Termination.UNLIMITED));
+		tabu.search(evaluator::cost, Permutation.generateRandom(LENGTH, new Random(3)), new SwapNeighborhood<>());
+		
+		// The budget is checked before each iteration, and an iteration scores all the moves
+		assertTrue(tabu.getFitnessCall() <= 1 + LENGTH * (LENGTH - 1) / 2);
+	}
+}
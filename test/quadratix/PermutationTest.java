@@ -0,0 +1,154 @@
+package quadratix;
+
+import org.junit.jupiter.api.*;
+import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swap;
+import quadratix.combination.Zobrist;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PermutationTest {
+	
+	Permutation permutation;
+	
+	@BeforeEach
+	void setup() {
+		permutation = new Permutation(new int[] {0, 2, 3, 4, 1});
+	}
+	
+	@Test
+	@Order(1)
+	void swap() {
+		Permutation p = permutation.copy();
+		int hash = p.hashCode();
+		p.swap(1, 3);
+		assertNotEquals(permutation, p);
+		assertNotEquals(hash, p.hashCode());
+		assertArrayEquals(new int[] {0, 4, 3, 2, 1}, p.toArray());
+		
+		p.swap(3, 1);
+		assertEquals(permutation, p);
+		assertEquals(hash, p.hashCode());
+	}
+	
+	@Test
+	@Order(2)
+	void combinationAdapters() {
+		Combination c = new Combination(1, 3, 4, 5, 2);
+		assertEquals(permutation, Permutation.of(c));
+		assertEquals(c, permutation.toCombination());
+	}
+	
+	@Test
+	@Order(3)
+	void generateAllNeighbors() {
+		HashMap<Permutation, ElementaryFunction<Permutation>> neighbors = Permutation.generateAllNeighbors().apply(permutation);
+		assertEquals(10, neighbors.size());
+		neighbors.forEach((neighbor, m) -> {
+			assertTrue(m instanceof Swap);
+			assertEquals(neighbor, m.apply(permutation));
+			assertEquals(permutation, m.invert().apply(neighbor));
+		});
+		
+		assertEquals(4, Permutation.generateAllNeighbors(1).apply(permutation).size());
+	}
+	
+	@Test
+	@Order(4)
+	void generateRandom() {
+		Set<Permutation> ps = new HashSet<>(100);
+		for (int i = 0; i < 100; i++) {
+			Permutation p = Permutation.generateRandom(4);
+			assertEquals(4, p.size());
+			assertEquals(4, new HashSet<>(p.toCombination()).size());
+			ps.add(p);
+		}
+		assertTrue(ps.size() > 1);
+	}
+	
+	@Test
+	@Order(5)
+	void generateRandomIsUniform() {
+		// The same seed gives the same permutation
+		assertEquals(Permutation.generateRandom(10, new Random(3)), Permutation.generateRandom(10, new Random(3)));
+		
+		// Each of the 6 permutations of length 3 is drawn about 1000 times
+		Random random = new Random(3);
+		Map<Permutation, Integer> counts = new HashMap<>();
+		for (int i = 0; i < 6000; i++)
+			counts.merge(Permutation.generateRandom(3, random), 1, Integer::sum);
+		assertEquals(6, counts.size());
+		for (int count : counts.values())
+			assertTrue(850 < count && count < 1150);
+	}
+	
+	@Test
+	@Order(6)
+	void generateRandomInBuffer() {
+		int[] buffer = Permutation.generateRandom(5, 10, new Random(3), null);
+		assertEquals(50, buffer.length);
+		for (int k = 0; k < 10; k++) {
+			Set<Integer> values = new HashSet<>();
+			for (int i = 0; i < 5; i++)
+				values.add(buffer[k * 5 + i]);
+			assertEquals(5, values.size());
+			assertTrue(values.stream().allMatch(v -> 0 <= v && v < 5));
+		}
+		
+		// The buffer is reused if it is large enough
+		assertSame(buffer, Permutation.generateRandom(5, 8, new Random(4), buffer));
+		assertNotSame(buffer, Permutation.generateRandom(5, 11, new Random(4), buffer));
+	}
+	
+	@Test
+	@Order(7)
+	void hash64() {
+		Random random = new Random(11);
+		Permutation p = Permutation.generateRandom(20, random);
+		assertEquals(Zobrist.hash(p.toArray()), p.hash64());
+		
+		// The incremental updates give the same hash as hashing from scratch
+		for (int k = 0; k < 100; k++) {
+			p.swap(random.nextInt(20), random.nextInt(20));
+			assertEquals(Zobrist.hash(p.toArray()), p.hash64());
+		}
+		p.set(3, 42);
+		assertEquals(Zobrist.hash(p.toArray()), p.hash64());
+		
+		Permutation q = new Permutation(p.toArray());
+		assertEquals(p.hash64(), q.hash64());
+		assertEquals(p, q);
+		assertEquals(p.hash64(), p.copy().hash64());
+		
+		// The hash depends on the positions of the elements
+		assertNotEquals(new Permutation(new int[] {0, 1}).hash64(), new Permutation(new int[] {1, 0}).hash64());
+		
+		// Distinct permutations have distinct hashes
+		Set<Permutation> permutations = new HashSet<>();
+		Set<Long> hashes = new HashSet<>();
+		for (int k = 0; k < 5000; k++) {
+			Permutation r = Permutation.generateRandom(6, random);
+			permutations.add(r);
+			hashes.add(r.hash64());
+		}
+		assertEquals(permutations.size(), hashes.size());
+	}
+	
+	@Test
+	@Order(8)
+	void identity() {
+		assertArrayEquals(new int[] {0, 1, 2, 3, 4}, Permutation.identity(5).toArray());
+		assertEquals(Permutation.identity(5), new Permutation(new int[] {0, 1, 2, 3, 4}));
+		// A single element is not a length
+		assertEquals(1, new Permutation(new int[] {0}).size());
+		assertEquals(0, Permutation.identity(0).size());
+	}
+}
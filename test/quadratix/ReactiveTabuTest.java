@@ -0,0 +1,26 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.tabu.ReactiveTabu;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveTabuTest {
+	
+	@Test
+	void search() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		int n = evaluator.getLength();
+		long optimum = SearchTestUtil.taillardOptima.get("tai12.txt");
+		
+		ReactiveTabu tabu = new ReactiveTabu(evaluator);
+		tabu.setRandom(new Random(12));
+		Permutation c = tabu.search(Permutation.identity(n), 100 * n, optimum);
+		assertEquals(optimum, SearchTestUtil.assertNearOptimum(evaluator, "tai12.txt", c, 0));
+	}
+}
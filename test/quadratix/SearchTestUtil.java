@@ -3,11 +3,19 @@ package quadratix;
 import javafx.util.Pair;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import quadratix.assignement.AssignementProblem;
+import quadratix.assignement.AssignmentEvaluator;
 import quadratix.bits.Bits;
+import quadratix.combination.Permutation;
+import quadratix.data.AssignmentData;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.Random;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 public class SearchTestUtil {
 	
 	public static final int NB_BITS = 4;
@@ -31,22 +39,109 @@ public class SearchTestUtil {
 		TABU
 	}
 
-	public static final HashMap<String, Integer> taillardOptima = new HashMap<>();
+	public static final HashMap<String, Long> taillardOptima = new HashMap<>();
 	static {
-		taillardOptima.put("tai12.txt", 224416);
-		taillardOptima.put("tai15.txt", 388214);
-		taillardOptima.put("tai17.txt", 491812);
-		taillardOptima.put("tai20.txt", 703482);
-		taillardOptima.put("tai25.txt", 1167256);
-		taillardOptima.put("tai30.txt", 1818146);
-		taillardOptima.put("tai35.txt", 2422002);
-		taillardOptima.put("tai40.txt", 3139370);
-		taillardOptima.put("tai50.txt", 4938796);
-		taillardOptima.put("tai60.txt", 7205962);
-		taillardOptima.put("tai80.txt", 13499184);
-		taillardOptima.put("tai100.txt", 21044752);
+		taillardOptima.put("tai12.txt", 224416L);
+		taillardOptima.put("tai15.txt", 388214L);
+		taillardOptima.put("tai17.txt", 491812L);
+		taillardOptima.put("tai20.txt", 703482L);
+		taillardOptima.put("tai25.txt", 1167256L);
+		taillardOptima.put("tai30.txt", 1818146L);
+		taillardOptima.put("tai35.txt", 2422002L);
+		taillardOptima.put("tai40.txt", 3139370L);
+		taillardOptima.put("tai50.txt", 4938796L);
+		taillardOptima.put("tai60.txt", 7205962L);
+		taillardOptima.put("tai80.txt", 13499184L);
+		taillardOptima.put("tai100.txt", 21044752L);
 	}
 
+	/**
+	 * Load a Taillard instance.
+	 * @param filename The name of the instance, in {@link #taillardFilenames}.
+	 * @return Return the evaluator of the instance.
+	 * @throws IOException Thrown if the instance cannot be read.
+	 */
+	@NotNull
+	public static AssignmentEvaluator loadTaillard(@NotNull String filename) throws IOException {
+		AssignementProblem problem = new AssignementProblem();
+		problem.taillardInitializer(filename);
+		return problem.getEvaluator();
+	}
+	
+	/**
+	 * Print the result of a search on a Taillard instance, and check that its cost is at most `1 + tolerance` times the
+	 * optimum.
+	 * @param evaluator The evaluator of the instance.
+	 * @param filename The name of the instance, in {@link #taillardOptima}.
+	 * @param x The result of the search.
+	 * @param tolerance The allowed relative gap to the optimum.
+	 * @return Return the cost of `x`.
+	 */
+	public static long assertNearOptimum(@NotNull AssignmentEvaluator evaluator, @NotNull String filename, @NotNull Permutation x, double tolerance) {
+		long cost = evaluator.cost(x);
+		long optimum = taillardOptima.get(filename);
+		System.out.println("Result: f(" + x + ") = " + cost + ", optimum = " + optimum);
+		
+		assertEquals(evaluator.getLength(), x.size());
+		assertTrue(cost >= optimum);
+		assertTrue(cost <= (1 + tolerance) * optimum);
+		return cost;
+	}
+	
+	/**
+	 * Create a random instance, with weights and distances in [0, 50).
+	 * @param length The number of facilities.
+	 * @param symmetric If {@code true}, the weight and the distance of `(i, j)` are the ones of `(j, i)`.
+	 * @param seed The seed of the random number generator.
+	 * @return Return the evaluator of the instance.
+	 */
+	@NotNull
+	public static AssignmentEvaluator randomInstance(int length, boolean symmetric, long seed) {
+		AssignmentData data = new AssignmentData(length, new HashMap<>(), new HashMap<>());
+		Random random = new Random(seed);
+		for (long i = 1; i <= length; i++) {
+			for (long j = symmetric ? i + 1 : 1; j <= length; j++) {
+				if (i == j)
+					continue;
+				
+				long w = random.nextInt(50), d = random.nextInt(50);
+				data.addWeight(new Pair<>(i, j), w);
+				data.addDistance(new Pair<>(i, j), d);
+				if (symmetric) {
+					data.addWeight(new Pair<>(j, i), w);
+					data.addDistance(new Pair<>(j, i), d);
+				}
+			}
+		}
+		return new AssignmentEvaluator(data);
+	}
+	
+	/**
+	 * Compute the optimum of a small instance by enumerating all the permutations.
+	 * @param evaluator The evaluator of the instance.
+	 * @param length The number of facilities.
+	 * @return Return the cost of the best permutation.
+	 */
+	public static long bruteForce(@NotNull AssignmentEvaluator evaluator, int length) {
+		int[] p = new int[length];
+		for (int i = 0; i < length; i++)
+			p[i] = i;
+		return bruteForce(evaluator, p, 0);
+	}
+	
+	private static long bruteForce(@NotNull AssignmentEvaluator evaluator, @NotNull int[] p, int k) {
+		if (k == p.length)
+			return evaluator.cost(p);
+		
+		long min = Long.MAX_VALUE;
+		for (int i = k; i < p.length; i++) {
+			int t = p[k]; p[k] = p[i]; p[i] = t;
+			min = Math.min(min, bruteForce(evaluator, p, k + 1));
+			t = p[k]; p[k] = p[i]; p[i] = t;
+		}
+		return min;
+	}
+	
 	@NotNull
 	@Contract(" -> new")
 	public static HashMap<Bits, Integer> getSlideExerciseMapFitness() {
@@ -3,6 +3,8 @@ package quadratix;
 import org.junit.jupiter.api.*;
 import quadratix.tabu.TabuList;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -77,4 +79,46 @@ class TabuListTest {
 		assertEquals(1, tabu.getFixedSize());
 		assertEquals(f2, tabu.get(0));
 	}
-}
\ No newline at end of file
+	
+	@Test
+	@Order(3)
+	void grow() {
+		tabu.add(f2);
+		tabu.add(f3);
+		tabu.add(f4);
+		assertFalse(tabu.contains(f1));
+		
+		tabu.setFixedSize(4);
+		tabu.add(f5);
+		assertEquals(4, tabu.size());
+		assertEquals(f2, tabu.get(0));
+		assertEquals(f5, tabu.get(3));
+		
+		tabu.add(f1);
+		assertEquals(4, tabu.size());
+		assertEquals(f3, tabu.get(0));
+		assertEquals(f1, tabu.get(3));
+		assertTrue(tabu.contains(f1));
+		assertFalse(tabu.contains(f2));
+	}
+	
+	@Test
+	@Order(4)
+	void largeTenure() {
+		final int fixedSize = 1000;
+		TabuList<Integer, Integer> large = new TabuList<>(fixedSize);
+		List<Function<Integer, Integer>> functions = new ArrayList<>(3 * fixedSize);
+		for (int i = 0; i < 3 * fixedSize; i++) {
+			final int k = i;
+			functions.add(x -> x + k);
+			large.add(functions.get(i));
+			assertEquals(Math.min(i + 1, fixedSize), large.size());
+		}
+		
+		for (int i = 0; i < fixedSize; i++)
+			assertEquals(functions.get(2 * fixedSize + i), large.get(i));
+		assertFalse(large.contains(functions.get(2 * fixedSize - 1)));
+		assertTrue(large.contains(functions.get(2 * fixedSize)));
+		assertEquals(fixedSize, large.toArray().length);
+	}
+}
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.*;
 import quadratix.bits.Bits;
+import quadratix.stats.SampledTrajectoryRecorder;
 import quadratix.tabu.Tabu;
 
 import java.util.HashMap;
@@ -105,4 +106,23 @@ class TabuTest {
 		assertEquals(4, pair.getValue());
 		assertEquals(-20, f.apply(pair));
 	}
-}
\ No newline at end of file
+	
+	@Test
+	@Order(5)
+	void recorder() {
+		tabu = new Tabu<>();
+		f = getSlideExerciseFitness();
+		
+		StringBuilder sink = new StringBuilder();
+		SampledTrajectoryRecorder<Bits, Integer> recorder = new SampledTrajectoryRecorder<>(sink, 2, 3);
+		tabu.setRecorder(recorder);
+		tabu.search(f, new Bits(0, NB_BITS), V_bits, intOps, 3, 20);
+		
+		String[] lines = sink.toString().split(System.lineSeparator());
+		assertEquals(3, recorder.getRecorded());
+		assertEquals(3, lines.length);
+		assertEquals("0;" + f.apply(new Bits(0, NB_BITS)) + ";" + new Bits(0, NB_BITS), lines[0]);
+		assertTrue(lines[1].startsWith("2;"));
+		assertTrue(lines[2].startsWith("4;"));
+	}
+}
@@ -0,0 +1,83 @@
+package quadratix;
+
+import org.junit.jupiter.api.Test;
+import quadratix.assignement.AssignementProblem;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.neighborhood.SwapNeighborhood;
+import quadratix.tabu.RobustTabu;
+import quadratix.tabu.Tabu;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminationTest {
+	
+	@Test
+	void criteria() {
+		Termination<Integer>.Monitor none = new Termination<Integer>().start(Integer::compare);
+		assertFalse(none.isOver(1000000, 1000000, 0));
+		assertNull(none.getReason());
+		
+		Termination<Integer>.Monitor target = new Termination<>(Termination.UNLIMITED, Termination.UNLIMITED, 10, Termination.UNLIMITED).start(Integer::compare);
+		assertFalse(target.isOver(0, 0, 11));
+		assertTrue(target.isOver(1, 1, 10));
+		assertEquals(Termination.Reason.TARGET, target.getReason());
+		
+		Termination<Integer>.Monitor evaluations = new Termination<Integer>(Termination.UNLIMITED, 100, null, Termination.UNLIMITED).start(Integer::compare);
+		assertFalse(evaluations.isOver(0, 99, 5));
+		assertTrue(evaluations.isOver(1, 100, 5));
+		assertEquals(Termination.Reason.EVALUATIONS, evaluations.getReason());
+		
+		Termination<Integer>.Monitor stagnation = new Termination<Integer>(Termination.UNLIMITED, Termination.UNLIMITED, null, 3).start(Integer::compare);
+		assertFalse(stagnation.isOver(0, 0, 5));
+		assertFalse(stagnation.isOver(2, 0, 5));
+		assertFalse(stagnation.isOver(3, 0, 4));
+		assertFalse(stagnation.isOver(5, 0, 4));
+		assertTrue(stagnation.isOver(6, 0, 4));
+		assertEquals(Termination.Reason.STAGNATION, stagnation.getReason());
+		
+		Termination<Integer>.Monitor timeout = new Termination<Integer>(0, Termination.UNLIMITED, null, Termination.UNLIMITED).start(Integer::compare);
+		assertTrue(timeout.isOver(0, 0, 5));
+		assertEquals(Termination.Reason.TIMEOUT, timeout.getReason());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Termination<Integer>().setTimeoutMs(-2));
+	}
+	
+	@Test
+	void budgetAndTarget() throws IOException {
+		AssignementProblem problem = new AssignementProblem();
+		problem.taillardInitializer("tai12.txt");
+		AssignmentEvaluator evaluator = problem.getEvaluator();
+		int n = evaluator.getLength();
+		long optimum = SearchTestUtil.taillardOptima.get("tai12.txt");
+		
+		// A small budget of evaluations: the search stops long before its maximum number of iterations
+		Tabu<Permutation, Long> tabu = new Tabu<>();
+		tabu.setDelta(evaluator::delta);
+		tabu.setTermination(new Termination<>(Termination.UNLIMITED, 10 * n, null, Termination.UNLIMITED));
+		tabu.search(evaluator::cost, Permutation.identity(n), new SwapNeighborhood<>(), NumberOperations.getLongOperations(), n, 1000 * n, null);
+		assertTrue(tabu.getFitnessCall() <= 10 * n + n * (n - 1) / 2 + 1);
+		
+		// A target worse than the optimum is reached quickly
+		RobustTabu robust = new RobustTabu(evaluator);
+		robust.setTermination(new Termination<>(Termination.UNLIMITED, Termination.UNLIMITED, (long) (1.05 * optimum), Termination.UNLIMITED));
+		Permutation x = robust.search(Permutation.identity(n), Integer.MAX_VALUE, null);
+		assertTrue(evaluator.cost(x) <= 1.05 * optimum);
+	}
+	
+	@Test
+	void timeout() throws IOException {
+		AssignementProblem problem = new AssignementProblem();
+		problem.taillardInitializer("tai50.txt");
+		AssignmentEvaluator evaluator = problem.getEvaluator();
+		
+		RobustTabu robust = new RobustTabu(evaluator);
+		robust.setTermination(new Termination<>(200, Termination.UNLIMITED, null, Termination.UNLIMITED));
+		long begin = System.currentTimeMillis();
+		robust.search(Permutation.identity(evaluator.getLength()), Integer.MAX_VALUE, null);
+		long elapsed = System.currentTimeMillis() - begin;
+		assertTrue(elapsed < 1000, "Elapsed: " + elapsed + " ms");
+	}
+}
@@ -2,17 +2,23 @@ package quadratix.assignement;
 
 import org.junit.jupiter.api.*;
 import quadratix.ElementaryFunction;
+import quadratix.FitnessCache;
 import quadratix.SearchTestUtil;
 import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.data.AssignmentData;
 import quadratix.data.CombinationGenerator;
 import quadratix.data.LogFileHandler;
 import quadratix.stats.Stopwatch;
+import quadratix.tabu.MultiStartTabu;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -88,9 +94,9 @@ class AssignementProblemTest {
     @Test
     @Order(4)
     void computeTemperature() {
-        ArrayList<Integer> deltaFs = new ArrayList<>(MAX_ITERATION_COMPUTE_T0);
+        ArrayList<Long> deltaFs = new ArrayList<>(MAX_ITERATION_COMPUTE_T0);
         Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> neighborsGenerator = Combination.generateAllNeighbors();
-        Function<Combination, Integer> f = assignementProblem.getF();
+        Function<Combination, Long> f = assignementProblem.getF();
 
         for (int i = 0; i < MAX_ITERATION_COMPUTE_T0; i++) {
             // Generate randomly a combination
@@ -151,12 +157,12 @@ class AssignementProblemTest {
      * @param taillardFilename The taillard filename.
      * @return Return a map where the keys are the tabu sizes and the values are the optima found.
      */
-    private HashMap<Integer, Integer> tabuSizeTestWith(String taillardFilename) {
+    private HashMap<Integer, Long> tabuSizeTestWith(String taillardFilename) {
         Combination inComb = Combination.generateRandom(assignementProblem.getAssignmentData().getLength());
         assignementProblem.setInCombination(inComb);
         
         int[] sizes = {1, 2, 3, 10, 100, 1000, 10000};
-        HashMap<Integer, Integer> optima = new HashMap<>(sizes.length);
+        HashMap<Integer, Long> optima = new HashMap<>(sizes.length);
         for (int size : sizes) {
             System.out.println("Tabu size " + size);
             assignementProblem.tabuAlgortihm(SearchTestUtil.taillardOptima.get(TAILLARD_FILENAME), size); //parameter optima, to know the convergence
@@ -199,11 +205,11 @@ class AssignementProblemTest {
         try {
 
             for (int i = 0; i < SearchTestUtil.taillardFilenames.length; i++) {
-                int output;
+                long output;
                 float sumTabu = 0;
-                int minTabu = Integer.MAX_VALUE;
+                long minTabu = Long.MAX_VALUE;
                 float sumRecuit = 0;
-                int minRecuit = Integer.MAX_VALUE;
+                long minRecuit = Long.MAX_VALUE;
                 System.out.println("Run#" + SearchTestUtil.taillardFilenames[i]);
                 assignementProblem.taillardInitializer(SearchTestUtil.taillardFilenames[i]);
                 assignementProblem.setNeighborsFunction(NEIGHBORHOOD_TYPE, assignementProblem.getAssignmentData().getLength());
@@ -259,12 +265,12 @@ class AssignementProblemTest {
      * @param optima The optimum of the function for statistic purposes.
      * @see quadratix.tabu.TabuList
      */
-    private void executeAlgoRangeOfValues(SearchTestUtil.ALGO algo, AssignementProblem assignementProblem, Integer tabuSize, Integer optima) {
+    private void executeAlgoRangeOfValues(SearchTestUtil.ALGO algo, AssignementProblem assignementProblem, Integer tabuSize, Long optima) {
         try {
             float sum = 0;
-            int min = Integer.MAX_VALUE;
+            long min = Long.MAX_VALUE;
             int optimumReached = 0;
-            ArrayList<Integer> outputs = new ArrayList<>();
+            ArrayList<Long> outputs = new ArrayList<>();
 
             //Range of values
             CombinationGenerator combinationGenerator = new CombinationGenerator(assignementProblem.getAssignmentData().getLength());
@@ -276,7 +282,7 @@ class AssignementProblemTest {
                 if (algo.equals(SearchTestUtil.ALGO.RECUIT)) assignementProblem.recuitAlgortihm();
                 else assignementProblem.tabuAlgortihm(optima, tabuSize); //parameter optima, to know the convergence
                 assignementProblem.printOutput();
-                int output = assignementProblem.getF().apply(assignementProblem.getOutCombination());
+                long output = assignementProblem.getF().apply(assignementProblem.getOutCombination());
                 sum += output;
                 if (output < min) min = output;
                 if (output == optima) optimumReached++;
@@ -298,4 +304,73 @@ class AssignementProblemTest {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Run the tabu search from all the starting combinations in parallel.
+     */
+    @Test
+    @Order(9)
+    void tabuMultiStartOnRangeOfValues() throws IOException {
+        long optima = SearchTestUtil.taillardOptima.get(TAILLARD_FILENAME);
+        CombinationGenerator combinationGenerator = new CombinationGenerator(assignementProblem.getAssignmentData().getLength());
+        ArrayList<Combination> starts = combinationGenerator.readFile();
+
+        Stopwatch stopwatch = new Stopwatch(true);
+        MultiStartTabu.Result<Permutation, Long> result = assignementProblem.multiStartTabuAlgorithm(starts, TABU_SIZE, 42);
+        stopwatch.stop();
+
+        assertEquals(starts.size(), result.getStatistics().size());
+        for (MultiStartTabu.Statistics<Long> statistics : result.getStatistics())
+            assertTrue(result.getBestFitness() <= statistics.getFitness());
+        assertEquals(result.getBestFitness(), assignementProblem.getF().apply(assignementProblem.getOutCombination()));
+        assertTrue(result.getBestFitness() >= optima);
+
+        System.out.println("Minimum found " + result.getBestFitness());
+        System.out.println("Execution time " + stopwatch.elapsedMs() + " ms");
+    }
+
+    /**
+     * Run the cooperative tabu search until the optimum is reached.
+     */
+    @Test
+    @Order(10)
+    void cooperativeTabu() {
+        long optima = SearchTestUtil.taillardOptima.get(TAILLARD_FILENAME);
+
+        Stopwatch stopwatch = new Stopwatch(true);
+        assignementProblem.cooperativeTabuAlgorithm(4, 100, optima, 42);
+        stopwatch.stop();
+
+        long output = assignementProblem.getF().apply(assignementProblem.getOutCombination());
+        assertTrue(output >= optima);
+        System.out.println("Minimum found " + output + " | Time " + stopwatch.elapsedMs() + " ms");
+    }
+
+    /**
+     * Run the simulated annealing twice on the same instance: the second run does not estimate the temperature again.
+     */
+    @Test
+    @Order(11)
+    void temperatureMemoized() {
+        // A random instance, so that its temperature has not been estimated by another test
+        AssignmentData data = AssignmentEvaluatorTest.randomData(9, true, 1717);
+        AssignementProblem problem = new AssignementProblem();
+        problem.setCacheCapacity(1 << 16);
+        problem.customInitializer(data.getLength(), data.getWeights(), data.getDistances());
+        problem.setNeighborsFunction(0, data.getLength());
+        problem.setInCombination(Combination.generateRandom(data.getLength()));
+
+        // The cache counts the calls to the fitness function
+        FitnessCache<Permutation, Long> cache = problem.getFitnessCache();
+        assertNotNull(cache);
+        problem.recuitAlgortihm();
+        long firstCalls = cache.getHits() + cache.getMisses();
+
+        cache.resetStatistics();
+        problem.recuitAlgortihm();
+        long secondCalls = cache.getHits() + cache.getMisses();
+
+        // Only the starting point of the second annealing is evaluated, the moves are scored with the delta function
+        assertEquals(1, secondCalls);
+        assertTrue(firstCalls > secondCalls);
+    }
+}
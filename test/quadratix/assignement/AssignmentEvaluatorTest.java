@@ -0,0 +1,139 @@
+package quadratix.assignement;
+
+import javafx.util.Pair;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import quadratix.combination.Combination;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swap;
+import quadratix.data.AssignmentData;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentEvaluatorTest {
+
+    private static final int LENGTH = 9;
+
+    /**
+     * Generate a random instance.
+     * @param symmetric If {@code true}, both matrices are symmetric with a null diagonal.
+     */
+    @NotNull
+    static AssignmentData randomData(int length, boolean symmetric, long seed) {
+        Random random = new Random(seed);
+        HashMap<Pair<Long, Long>, Long> weights = new HashMap<>();
+        HashMap<Pair<Long, Long>, Long> distances = new HashMap<>();
+        for (long i = 1; i <= length; i++) {
+            for (long j = 1; j <= length; j++) {
+                if (symmetric && j < i) {
+                    weights.put(new Pair<>(i, j), weights.get(new Pair<>(j, i)));
+                    distances.put(new Pair<>(i, j), distances.get(new Pair<>(j, i)));
+                } else if (symmetric && i == j) {
+                    weights.put(new Pair<>(i, j), 0L);
+                    distances.put(new Pair<>(i, j), 0L);
+                } else {
+                    weights.put(new Pair<>(i, j), (long) random.nextInt(100));
+                    distances.put(new Pair<>(i, j), (long) random.nextInt(100));
+                }
+            }
+        }
+        return new AssignmentData(length, weights, distances);
+    }
+
+    private void checkSwapDelta(@NotNull AssignmentData data) {
+        AssignmentEvaluator evaluator = new AssignmentEvaluator(data);
+        Combination c = Combination.generateRandom(LENGTH);
+        int[] p = new int[LENGTH];
+        for (int i = 0; i < LENGTH; i++)
+            p[i] = (int) (c.get(i) - 1);
+
+        for (int r = 0; r < LENGTH; r++) {
+            for (int s = 0; s < LENGTH; s++) {
+                int[] q = p.clone();
+                q[r] = p[s];
+                q[s] = p[r];
+                assertEquals(evaluator.cost(q) - evaluator.cost(p), evaluator.swapDelta(p, r, s));
+
+                Swap<Combination> swap = new Swap<>(r, s);
+                assertEquals(evaluator.cost(swap.apply(c)) - evaluator.cost(c), (long) evaluator.delta(c, swap));
+            }
+        }
+    }
+
+    @Test
+    void deltaAfterInPlaceSwap() {
+        AssignmentEvaluator evaluator = new AssignmentEvaluator(randomData(LENGTH, false, 7));
+        Combination c = Combination.generateRandom(LENGTH);
+        Swap<Combination> swap = new Swap<>(0, 1);
+        evaluator.delta(c, swap);
+
+        // The same instance, modified in place, is not evaluated with its previous elements
+        c.swap(2, 5);
+        assertEquals(evaluator.cost(swap.apply(c)) - evaluator.cost(c), (long) evaluator.delta(c, swap));
+    }
+
+    @Test
+    void swapDeltaSymmetric() {
+        AssignmentData data = randomData(LENGTH, true, 12);
+        assertTrue(new AssignmentEvaluator(data).isSymmetric());
+        checkSwapDelta(data);
+    }
+
+    @Test
+    void swapDeltaAsymmetric() {
+        AssignmentData data = randomData(LENGTH, false, 12);
+        assertFalse(new AssignmentEvaluator(data).isSymmetric());
+        checkSwapDelta(data);
+    }
+
+    @Test
+    void fitness() {
+        AssignmentData data = randomData(LENGTH, true, 42);
+        AssignementProblem problem = new AssignementProblem();
+        problem.customInitializer(LENGTH, data.getWeights(), data.getDistances());
+
+        // For symmetric instances, the cost is twice the sum over i < j
+        Combination c = Combination.generateRandom(LENGTH);
+        int expected = 0;
+        for (int i = 1; i <= LENGTH; i++)
+            for (int j = i + 1; j <= LENGTH; j++)
+                expected += data.getWeights().get(new Pair<>(c.get(i - 1), c.get(j - 1))) * data.getDistances().get(new Pair<>((long) i, (long) j));
+
+        assertEquals(2 * expected, problem.getF().apply(c));
+    }
+
+    private void checkDeltaMatrix(@NotNull AssignmentData data) {
+        AssignmentEvaluator evaluator = new AssignmentEvaluator(data);
+        DeltaMatrix deltas = new DeltaMatrix(evaluator);
+        Random random = new Random(3);
+        int[] p = Permutation.generateRandom(LENGTH).toArray();
+        deltas.init(p);
+
+        for (int k = 0; k < 50; k++) {
+            int r = random.nextInt(LENGTH), s = random.nextInt(LENGTH);
+            if (r == s)
+                continue;
+            int pr = p[r];
+            p[r] = p[s];
+            p[s] = pr;
+            deltas.update(p, Math.min(r, s), Math.max(r, s));
+
+            for (int i = 0; i < LENGTH; i++)
+                for (int j = 0; j < LENGTH; j++)
+                    assertEquals(evaluator.swapDelta(p, i, j), deltas.get(i, j));
+        }
+    }
+
+    @Test
+    void deltaMatrixSymmetric() {
+        checkDeltaMatrix(randomData(LENGTH, true, 5));
+    }
+
+    @Test
+    void deltaMatrixAsymmetric() {
+        checkDeltaMatrix(randomData(LENGTH, false, 5));
+    }
+}
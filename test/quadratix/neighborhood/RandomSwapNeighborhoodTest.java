@@ -0,0 +1,48 @@
+package quadratix.neighborhood;
+
+import org.junit.jupiter.api.Test;
+import quadratix.ElementaryFunction;
+import quadratix.combination.Permutation;
+import quadratix.combination.Swap;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSwapNeighborhoodTest {
+	
+	@Test
+	void pureFunctionOfK() {
+		RandomSwapNeighborhood<Permutation> N = new RandomSwapNeighborhood<>(20, new Random(5));
+		Permutation p = Permutation.generateRandom(12);
+		Permutation q = Permutation.generateRandom(12);
+		assertEquals(20, N.size(p));
+		
+		HashSet<ElementaryFunction<Permutation>> moves = new HashSet<>();
+		for (int k = 0; k < N.size(p); k++) {
+			Swap<Permutation> swap = (Swap<Permutation>) N.get(p, k);
+			assertTrue(swap.getI() < swap.getJ());
+			assertTrue(swap.getJ() < p.size());
+			moves.add(swap);
+			
+			// Asking another point in between must not change the moves of `p`
+			N.get(q, k);
+			assertEquals(swap, N.get(p, k));
+			assertEquals(swap, N.get(new Permutation(p), k));
+		}
+		assertEquals(20, moves.size());
+	}
+	
+	@Test
+	void allSwaps() {
+		RandomSwapNeighborhood<Permutation> N = new RandomSwapNeighborhood<>(100, new Random(5));
+		Permutation p = Permutation.generateRandom(7);
+		assertEquals(21, N.size(p));
+		
+		HashSet<ElementaryFunction<Permutation>> moves = new HashSet<>();
+		for (int k = 0; k < N.size(p); k++)
+			moves.add(N.get(p, k));
+		assertEquals(new HashSet<>(new SwapNeighborhood<Permutation>().sample(p, 100, new Random(0))), moves);
+	}
+}
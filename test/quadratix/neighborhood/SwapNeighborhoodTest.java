@@ -0,0 +1,56 @@
+package quadratix.neighborhood;
+
+import org.junit.jupiter.api.Test;
+import quadratix.ElementaryFunction;
+import quadratix.combination.Permutation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwapNeighborhoodTest {
+	
+	@Test
+	void sameNeighborsAsMap() {
+		Permutation p = Permutation.generateRandom(6);
+		
+		for (Integer swapDistance : new Integer[] {null, 2}) {
+			HashMap<Permutation, ElementaryFunction<Permutation>> map = Permutation.generateAllNeighbors(swapDistance).apply(p);
+			SwapNeighborhood<Permutation> N = new SwapNeighborhood<>(swapDistance);
+			assertEquals(map.size(), N.size(p));
+			
+			HashSet<Permutation> neighbors = new HashSet<>();
+			Iterator<ElementaryFunction<Permutation>> moves = N.iterator(p);
+			while (moves.hasNext())
+				neighbors.add(moves.next().apply(p));
+			assertEquals(map.keySet(), neighbors);
+		}
+	}
+	
+	@Test
+	void movesAreShared() {
+		SwapNeighborhood<Permutation> N = new SwapNeighborhood<>();
+		Permutation p = Permutation.identity(5);
+		assertSame(N.get(p, 3), N.get(Permutation.generateRandom(5), 3));
+	}
+	
+	@Test
+	void sample() {
+		SwapNeighborhood<Permutation> N = new SwapNeighborhood<>();
+		Permutation p = Permutation.identity(6);
+		Random random = new Random(3);
+		
+		List<ElementaryFunction<Permutation>> moves = N.sample(p, 4, random);
+		assertEquals(4, moves.size());
+		assertEquals(4, new HashSet<>(moves).size());
+		assertEquals(N.size(p), N.sample(p, 100, random).size());
+		
+		HashMap<Permutation, ElementaryFunction<Permutation>> map = Permutation.generateAllNeighbors().apply(p);
+		for (int i = 0; i < 100; i++)
+			assertTrue(map.containsKey(N.pickRandomly(p, random).apply(p)));
+	}
+}
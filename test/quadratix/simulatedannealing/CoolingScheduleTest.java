@@ -0,0 +1,117 @@
+package quadratix.simulatedannealing;
+
+import org.junit.jupiter.api.Test;
+import quadratix.SearchTestUtil;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoolingScheduleTest {
+	
+	@Test
+	void geometric() {
+		CoolingSchedule schedule = CoolingSchedule.geometric(0.5);
+		assertEquals(50, schedule.next(100, 10, 5, false), 1e-9);
+		assertThrows(IllegalArgumentException.class, () -> CoolingSchedule.geometric(0));
+	}
+	
+	@Test
+	void lundyMees() {
+		CoolingSchedule schedule = CoolingSchedule.lundyMees(0.01);
+		assertEquals(50, schedule.next(100, 10, 5, false), 1e-9);
+		// The decrease is relatively slower at low temperature
+		assertTrue(schedule.next(1, 10, 5, false) / 1 > schedule.next(100, 10, 5, false) / 100);
+	}
+	
+	@Test
+	void adaptive() {
+		CoolingSchedule schedule = CoolingSchedule.adaptive(0.9, 0.5);
+		assertEquals(90, schedule.next(100, 10, 5, false), 1e-9);
+		// Cool faster when everything is accepted
+		assertEquals(81, schedule.next(100, 10, 10, false), 1e-9);
+		assertEquals(100 * Math.pow(0.9, 1.6), schedule.next(100, 10, 8, false), 1e-9);
+		// Below the target, cool as the geometric schedule
+		assertEquals(90, schedule.next(100, 10, 2, false), 1e-9);
+	}
+	
+	@Test
+	void adaptiveFrozenPlateaus() {
+		CoolingSchedule schedule = CoolingSchedule.adaptive(0.9, 0.5);
+		// Nothing is accepted: the temperature keeps decreasing at least as fast as with the geometric schedule
+		double t = 100;
+		for (int k = 0; k < 50; k++)
+			t = schedule.next(t, 10, 0, false);
+		assertEquals(100 * Math.pow(0.9, 50), t, 1e-9);
+	}
+	
+	@Test
+	void reheating() {
+		CoolingSchedule schedule = CoolingSchedule.reheating(CoolingSchedule.geometric(0.5), 2);
+		schedule.reset(100);
+		assertEquals(50, schedule.next(100, 10, 5, true), 1e-9);
+		assertEquals(25, schedule.next(50, 10, 5, false), 1e-9);
+		// Back to the temperature of the last improvement
+		assertEquals(100, schedule.next(25, 10, 5, false), 1e-9);
+		assertEquals(50, schedule.next(100, 10, 5, false), 1e-9);
+		
+		schedule.reset(10);
+		assertEquals(5, schedule.next(10, 10, 5, false), 1e-9);
+		assertEquals(10, schedule.next(5, 10, 5, false), 1e-9);
+	}
+	
+	@Test
+	void equilibrium() {
+		Equilibrium equilibrium = new Equilibrium(2, 0.01);
+		assertFalse(equilibrium.update(false, 10));
+		assertFalse(equilibrium.update(false, 10));
+		assertFalse(equilibrium.update(true, 8));
+		// The acceptance ratio has changed
+		assertFalse(equilibrium.update(false, 8));
+		assertFalse(equilibrium.update(true, 8));
+		// Same acceptance ratio and mean cost
+		assertTrue(equilibrium.update(false, 8));
+		
+		equilibrium.reset();
+		assertFalse(equilibrium.update(false, 8));
+		assertFalse(equilibrium.update(false, 8));
+	}
+	
+	@Test
+	void search() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		int n = evaluator.getLength();
+		
+		CoolingSchedule[] schedules = {
+				CoolingSchedule.lundyMees(1e-5),
+				CoolingSchedule.adaptive(0.95, 0.2),
+				CoolingSchedule.reheating(CoolingSchedule.geometric(0.95), 20)
+		};
+		for (CoolingSchedule schedule : schedules) {
+			DeltaSimulatedAnnealing simulatedAnnealing = new DeltaSimulatedAnnealing(evaluator);
+			simulatedAnnealing.setRandom(new Random(12));
+			simulatedAnnealing.setSchedule(schedule);
+			simulatedAnnealing.setEquilibrium(new Equilibrium(100, 0.05));
+			Permutation x = simulatedAnnealing.search(Permutation.identity(n), 50000, 200, 1000, 0.95);
+			SearchTestUtil.assertNearOptimum(evaluator, "tai12.txt", x, 0.05);
+		}
+	}
+	
+	@Test
+	void equilibriumShortensPlateaus() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		int n1 = 200, n2 = 1000;
+		
+		DeltaSimulatedAnnealing simulatedAnnealing = new DeltaSimulatedAnnealing(evaluator);
+		simulatedAnnealing.setRandom(new Random(12));
+		simulatedAnnealing.search(Permutation.identity(evaluator.getLength()), 50000, n1, n2, 0.95);
+		assertEquals((long) n1 * n2, simulatedAnnealing.getSteps());
+		
+		simulatedAnnealing.setEquilibrium(new Equilibrium(100, 0.05));
+		simulatedAnnealing.search(Permutation.identity(evaluator.getLength()), 50000, n1, n2, 0.95);
+		assertTrue(simulatedAnnealing.getSteps() < (long) n1 * n2);
+	}
+}
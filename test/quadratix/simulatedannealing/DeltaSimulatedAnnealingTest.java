@@ -0,0 +1,43 @@
+package quadratix.simulatedannealing;
+
+import org.junit.jupiter.api.Test;
+import quadratix.SearchTestUtil;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaSimulatedAnnealingTest {
+	
+	@Test
+	void search() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		int n = evaluator.getLength();
+		
+		DeltaSimulatedAnnealing simulatedAnnealing = new DeltaSimulatedAnnealing(evaluator);
+		simulatedAnnealing.setRandom(new Random(12));
+		Permutation x0 = Permutation.identity(n);
+		Permutation x = simulatedAnnealing.search(x0, 50000, 200, 1000, 0.95);
+		long cost = SearchTestUtil.assertNearOptimum(evaluator, "tai12.txt", x, 0.05);
+		
+		// x0 is not modified
+		assertEquals(Permutation.identity(n), x0);
+		assertTrue(cost <= evaluator.cost(x0));
+		assertEquals(cost, simulatedAnnealing.getBestFitness());
+	}
+	
+	@Test
+	void trackedFitness() {
+		// The deltas of an asymmetric instance have more terms to get wrong
+		AssignmentEvaluator evaluator = SearchTestUtil.randomInstance(9, false, 4);
+		DeltaSimulatedAnnealing simulatedAnnealing = new DeltaSimulatedAnnealing(evaluator);
+		for (long seed = 0; seed < 5; seed++) {
+			simulatedAnnealing.setRandom(new Random(seed));
+			Permutation x = simulatedAnnealing.search(Permutation.generateRandom(9, new Random(seed)), 100, 50, 100, 0.9);
+			assertEquals(evaluator.cost(x), simulatedAnnealing.getBestFitness());
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package quadratix.simulatedannealing;
+
+import org.junit.jupiter.api.Test;
+import quadratix.SearchTestUtil;
+import quadratix.assignement.AssignmentEvaluator;
+import quadratix.combination.Permutation;
+import quadratix.stats.RandomProvider;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTemperingTest {
+	
+	@Test
+	void ladder() {
+		double[] ladder = ParallelTempering.ladder(1000, 4);
+		assertEquals(4, ladder.length);
+		assertEquals(1000, ladder[0], 1e-9);
+		assertEquals(1000 * ParallelTempering.COLD_RATIO, ladder[3], 1e-9);
+		for (int k = 0; k < ladder.length - 1; k++)
+			assertTrue(ladder[k] > ladder[k + 1]);
+		
+		assertArrayEquals(new double[] { 5 }, ParallelTempering.ladder(5, 1));
+		assertThrows(IllegalArgumentException.class, () -> ParallelTempering.ladder(0, 4));
+	}
+	
+	@Test
+	void search() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		int n = evaluator.getLength();
+		
+		ParallelTempering tempering = new ParallelTempering(evaluator, ParallelTempering.ladder(50000, 4));
+		Permutation x0 = Permutation.identity(n);
+		Permutation x = tempering.search(x0, 200, 1000, 12);
+		SearchTestUtil.assertNearOptimum(evaluator, "tai12.txt", x, 0.05);
+		
+		// The search is reproducible
+		assertEquals(x, tempering.search(x0, 200, 1000, 12));
+		assertEquals(Permutation.identity(n), x0);
+		
+		for (double rate : tempering.getExchangeRates())
+			assertTrue(rate > 0);
+	}
+	
+	@Test
+	void singleReplica() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		Permutation x0 = Permutation.generateRandom(evaluator.getLength(), new Random(3));
+		
+		// A single replica runs the same steps as the simulated annealing at a constant temperature
+		ParallelTempering tempering = new ParallelTempering(evaluator, new double[] { 2000 });
+		DeltaSimulatedAnnealing simulatedAnnealing = new DeltaSimulatedAnnealing(evaluator);
+		simulatedAnnealing.setRandom(RandomProvider.of(12).split());
+		assertEquals(simulatedAnnealing.search(x0, 2000, 50, 100, 1), tempering.search(x0, 50, 100, 12));
+		assertEquals(0, tempering.getExchangeRates().length);
+	}
+	
+	@Test
+	void evenOddExchanges() throws IOException {
+		AssignmentEvaluator evaluator = SearchTestUtil.loadTaillard("tai12.txt");
+		Permutation x0 = Permutation.identity(evaluator.getLength());
+		
+		// At the same temperature, every exchange is accepted
+		ParallelTempering tempering = new ParallelTempering(evaluator, new double[] { 100, 100, 100, 100 });
+		tempering.search(x0, 1, 10, 12);
+		assertArrayEquals(new double[] { 1, 0, 1 }, tempering.getExchangeRates(), 1e-9);
+		
+		tempering.search(x0, 5, 10, 12);
+		assertArrayEquals(new double[] { 1, 1, 1 }, tempering.getExchangeRates(), 1e-9);
+	}
+}
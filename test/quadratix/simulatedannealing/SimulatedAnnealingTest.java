@@ -7,6 +7,7 @@ import quadratix.NumberOperations;
 import quadratix.bits.Bits;
 
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,4 +73,32 @@ class SimulatedAnnealingTest {
 		System.out.println(String.format("t0 = %.4f°", t0));
 		assertTrue(t0 > 0);
 	}
+	
+	@Test
+	@Order(4)
+	void computeTemperatureInParallel() {
+		// The same random elements are generated in both computations
+		int[] values = {0, 3, 5, 6, 9, 10, 12, 15};
+		int[] sequential = {0};
+		int[] parallel = {0};
+		double t0 = SimulatedAnnealing.computeTemperature(
+				getSlideExerciseFitness(),
+				V_bits,
+				intOps,
+				v -> new Bits(values[sequential[0]++ % values.length], NB_BITS),
+				i -> (double) i,
+				100
+		);
+		double t0Parallel = SimulatedAnnealing.computeTemperature(
+				getSlideExerciseFitness(),
+				V_bits,
+				intOps,
+				v -> new Bits(values[parallel[0]++ % values.length], NB_BITS),
+				i -> (double) i,
+				100,
+				ForkJoinPool.commonPool()
+		);
+		System.out.println(String.format("t0 = %.4f°", t0Parallel));
+		assertEquals(t0, t0Parallel, 1e-9);
+	}
 }
\ No newline at end of file
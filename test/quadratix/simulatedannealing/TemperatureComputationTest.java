@@ -23,9 +23,9 @@ import static quadratix.SearchTestUtil.taillardFilenames;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class TemperatureComputationTest {
 	
-	private Function<Combination, Integer> f;
+	private Function<Combination, Long> f;
 	private Function<Combination, HashMap<Combination, ElementaryFunction<Combination>>> V;
-	private final NumberOperations<Integer> intOps = NumberOperations.getIntegerOperations();
+	private final NumberOperations<Long> longOps = NumberOperations.getLongOperations();
 	private final int[] iterations = {1, 2, 3, 10, 20, 50, 100, 200, 300, 400, 500/*, 1000, 2000, 5000, 10000, 100000*/};
 	
 	private double computeTemperature(@NotNull final String filename, final int nbIteration) throws IOException {
@@ -36,7 +36,7 @@ public class TemperatureComputationTest {
 		return SimulatedAnnealing.computeTemperature(
 				f,
 				V,
-				intOps,
+				longOps,
 				v -> Combination.generateRandom(problem.getAssignmentData().getLength()),
 				i -> (double) i,
 				nbIteration
@@ -0,0 +1,80 @@
+package quadratix.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomProviderTest {
+	
+	@Test
+	void seed() {
+		RandomProvider.setSeed(42);
+		Random a = RandomProvider.split();
+		long current = RandomProvider.current().nextLong();
+		
+		RandomProvider.setSeed(42);
+		Random b = RandomProvider.split();
+		assertEquals(current, RandomProvider.current().nextLong());
+		for (int i = 0; i < 100; i++)
+			assertEquals(a.nextLong(), b.nextLong());
+		
+		// The streams are independent
+		assertNotEquals(RandomProvider.split().nextLong(), RandomProvider.split().nextLong());
+	}
+	
+	@Test
+	void split() {
+		SplitRandom a = RandomProvider.of(7);
+		SplitRandom b = RandomProvider.of(7);
+		SplitRandom c = a.split();
+		SplitRandom d = b.split();
+		for (int i = 0; i < 100; i++) {
+			assertEquals(a.nextInt(10), b.nextInt(10));
+			assertEquals(c.nextDouble(), d.nextDouble());
+			assertEquals(c.nextGaussian(), d.nextGaussian());
+		}
+		
+		for (int i = 0; i < 1000; i++) {
+			int value = a.nextInt(5);
+			assertTrue(0 <= value && value < 5);
+		}
+	}
+	
+	@Test
+	void current() throws ExecutionException, InterruptedException {
+		SplitRandom random = RandomProvider.current();
+		assertSame(random, RandomProvider.current());
+		assertNotSame(random, CompletableFuture.supplyAsync(RandomProvider::current).get());
+	}
+	
+	@Test
+	void serialization() throws IOException, ClassNotFoundException {
+		SplitRandom a = RandomProvider.of(7);
+		SplitRandom b = RandomProvider.of(7);
+		SplitRandom c = copy(a);
+		SplitRandom d = copy(b);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(a.nextLong(), b.nextLong());
+			assertEquals(c.nextLong(), d.nextLong());
+		}
+	}
+	
+	private static SplitRandom copy(SplitRandom random) throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(random);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (SplitRandom) in.readObject();
+		}
+	}
+}